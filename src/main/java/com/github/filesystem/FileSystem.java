@@ -1,10 +1,21 @@
 package com.github.filesystem;
 
 import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.io.AbortableOutputStream;
+import com.github.filesystem.io.RangeInputStream;
 import com.github.filesystem.model.Configuration;
+import com.github.filesystem.model.FileInfo;
+import com.github.filesystem.util.ErrorUtil;
+import com.github.filesystem.util.ExceptionConstants;
+import com.github.filesystem.util.GlobPattern;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * The file system interface for file system operation specifications.
@@ -32,6 +43,54 @@ public abstract class FileSystem {
      */
     public abstract InputStream read(String filePath) throws FileSystemException;
 
+    /**
+     * This method can be used to get the input stream of the given byte range of file. The file systems not able to
+     * read ranges skip the bytes before the offset on the stream of the whole file.
+     *
+     * @param filePath - The file path
+     * @param offset   - The offset of the first byte to read.
+     * @param length   - The number of bytes to read.
+     * @return Returns input stream of the given byte range of file.
+     * @throws FileSystemException
+     */
+    public InputStream read(String filePath, long offset, long length) throws FileSystemException {
+        InputStream in = read(filePath);
+        try {
+            long remaining = offset;
+            while (remaining > 0) {
+                long skipped = in.skip(remaining);
+                if (skipped <= 0) {
+                    if (in.read() < 0) {
+                        break;
+                    }
+                    skipped = 1;
+                }
+                remaining -= skipped;
+            }
+        } catch (IOException e) {
+            try {
+                in.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_IO_EXCEPTION, e);
+        }
+        return new RangeInputStream(in, length);
+    }
+
+    /**
+     * This method can be used to get the read only seekable channel for given input file path. The channel reads
+     * the file in blocks with ranged reads, so random access reads only the bytes actually touched. The file systems
+     * not overriding it do not support the channel.
+     *
+     * @param filePath - The file path
+     * @return Returns read only seekable channel for given input file path.
+     * @throws FileSystemException
+     */
+    public SeekableByteChannel openChannel(String filePath) throws FileSystemException {
+        throw new FileSystemException(String.format(ExceptionConstants.STR_UNSUPPORTED_OPERATION, "openChannel"));
+    }
+
     /**
      * This method can be used to upload file input stream to file system.
      *
@@ -41,6 +100,20 @@ public abstract class FileSystem {
      */
     public abstract void uploadFile(InputStream inputStream, String fileName) throws FileSystemException;
 
+    /**
+     * This method can be used to get the output stream to write the file on file system incrementally. Closing the
+     * stream commits the file, a failed write or {@link AbortableOutputStream#abort()} discards it. The file systems
+     * not overriding it do not support the output stream, the file is written with
+     * {@link #uploadFile(InputStream, String)} instead.
+     *
+     * @param fileName - The file name to save on file system.
+     * @return Returns the output stream to write the file.
+     * @throws FileSystemException
+     */
+    public AbortableOutputStream openOutputStream(String fileName) throws FileSystemException {
+        throw new FileSystemException(String.format(ExceptionConstants.STR_UNSUPPORTED_OPERATION, "openOutputStream"));
+    }
+
     /**
      * This method can be used to download the file from file system to specific destination path.
      *
@@ -90,4 +163,121 @@ public abstract class FileSystem {
      * @throws FileSystemException
      */
     public abstract List<String> getListOfFiles(String directory) throws FileSystemException;
+
+    /**
+     * This method will return the information of files available in the given input directory. The size, last
+     * modified time and ETag are taken from the listing itself, no extra call is made per file. The file systems
+     * not overriding it return the files of {@link #getListOfFiles(String)} with unknown size and last modified time
+     * as zero, the names ending with slash are directories.
+     *
+     * @param directory - The directory name from where to read the files.
+     * @return Returns the list of file information {@link FileInfo} available in the given input directory.
+     * @throws FileSystemException
+     */
+    public List<FileInfo> getListOfFileInfo(String directory) throws FileSystemException {
+        List<FileInfo> files = new ArrayList<>();
+        for (String file : getListOfFiles(directory)) {
+            files.add(new FileInfo(file, 0L, 0L, null, file.endsWith("/")));
+        }
+        return files;
+    }
+
+    /**
+     * This method will iterate the information of files available in the given input directory. The file systems
+     * listing in pages override it to fetch the pages while iterating, so the whole listing is not held in memory.
+     *
+     * @param directory - The directory name from where to read the files.
+     * @return Returns the iterator of file information {@link FileInfo} available in the given input directory.
+     * @throws FileSystemException
+     */
+    public Iterator<FileInfo> iterateFileInfo(String directory) throws FileSystemException {
+        return getListOfFileInfo(directory).iterator();
+    }
+
+    /**
+     * This method can be used to find the files matching the glob pattern, see {@link GlobPattern}. The listing
+     * starts at the directory of the literal prefix of pattern and descends only into the directories under which the
+     * pattern may match.
+     *
+     * @param glob  - The glob pattern matched against the file paths e.g. logs/2026-10-*&#47;part-*.gz
+     * @param limit - The maximum number of files to return, the listing stops once it is reached, 0 for no limit.
+     * @return Returns the list of file information {@link FileInfo} of the matching files.
+     * @throws FileSystemException
+     */
+    public List<FileInfo> findFiles(String glob, int limit) throws FileSystemException {
+        return findFiles(glob, null, limit);
+    }
+
+    /**
+     * This method can be used to find the files matching the glob pattern and the predicate, see
+     * {@link #findFiles(String, int)}. The file systems able to narrow their listing override it to push the literal
+     * prefix down to the listing.
+     *
+     * @param glob   - The glob pattern matched against the file paths.
+     * @param filter - The optional predicate the matching files must satisfy e.g. on size or last modified time.
+     * @param limit  - The maximum number of files to return, the listing stops once it is reached, 0 for no limit.
+     * @return Returns the list of file information {@link FileInfo} of the matching files.
+     * @throws FileSystemException
+     */
+    public List<FileInfo> findFiles(String glob, Predicate<FileInfo> filter, int limit) throws FileSystemException {
+        return findFilesByListing(glob, filter, limit);
+    }
+
+    /**
+     * Find the files matching the glob pattern by walking the directories with {@link #getListOfFileInfo(String)},
+     * the file systems changing the listing of the decorated one find the files through it.
+     *
+     * @param glob   - The glob pattern matched against the file paths.
+     * @param filter - The optional predicate the matching files must satisfy.
+     * @param limit  - The maximum number of files to return, 0 for no limit.
+     * @return Returns the list of file information {@link FileInfo} of the matching files.
+     * @throws FileSystemException
+     */
+    protected final List<FileInfo> findFilesByListing(String glob, Predicate<FileInfo> filter, int limit)
+            throws FileSystemException {
+        GlobPattern pattern = GlobPattern.compile(glob);
+        List<FileInfo> found = new ArrayList<>();
+        findFiles(pattern, pattern.getBaseDirectory(), filter, limit > 0 ? limit : Integer.MAX_VALUE, found);
+        return found;
+    }
+
+    /**
+     * List the directory and descend into the matching sub directories, unless the listing already contained the
+     * files of the sub directories.
+     */
+    private void findFiles(GlobPattern pattern, String directory, Predicate<FileInfo> filter, int limit,
+                           List<FileInfo> found) throws FileSystemException {
+        int nameStart = directory.isEmpty() || directory.endsWith("/") ? directory.length() : directory.length() + 1;
+        String childPrefix = pattern.getChildPrefix(directory);
+        List<String> subDirectories = new ArrayList<>();
+        boolean recursiveListing = false;
+        for (FileInfo file : getListOfFileInfo(directory)) {
+            String path = file.getPath();
+            if (!path.startsWith(childPrefix, nameStart)) {
+                continue;
+            }
+            int separator = path.indexOf('/', nameStart);
+            boolean child = separator < 0 || separator == path.length() - 1;
+            recursiveListing |= !child;
+            if (file.isDirectory()) {
+                if (child && pattern.matchesDirectory(path)) {
+                    subDirectories.add(path);
+                }
+            } else if (pattern.matches(path) && (filter == null || filter.test(file))) {
+                found.add(file);
+                if (found.size() >= limit) {
+                    return;
+                }
+            }
+        }
+        if (recursiveListing) {
+            return;
+        }
+        for (String subDirectory : subDirectories) {
+            findFiles(pattern, subDirectory, filter, limit, found);
+            if (found.size() >= limit) {
+                return;
+            }
+        }
+    }
 }
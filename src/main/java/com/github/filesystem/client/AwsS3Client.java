@@ -13,19 +13,29 @@ import com.amazonaws.services.s3.model.*;
 import com.github.filesystem.FileSystem;
 import com.github.filesystem.annotation.Component;
 import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.io.AbortableOutputStream;
+import com.github.filesystem.io.BufferPool;
+import com.github.filesystem.io.RangedReadChannel;
 import com.github.filesystem.model.Configuration;
+import com.github.filesystem.model.FileInfo;
 import com.github.filesystem.util.AppConstants;
 import com.github.filesystem.util.ErrorUtil;
 import com.github.filesystem.util.ExceptionConstants;
+import com.github.filesystem.util.GlobPattern;
+import com.github.filesystem.util.PropertyUtil;
+import com.github.filesystem.util.ThreadUtil;
 import com.github.filesystem.util.ValidationUtil;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.io.*;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
+import java.nio.channels.SeekableByteChannel;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -39,7 +49,7 @@ import java.util.stream.Collectors;
 @Getter
 @NoArgsConstructor
 @Component(AppConstants.STR_S3)
-public class AwsS3Client extends FileSystem {
+public class AwsS3Client extends FileSystem implements Closeable {
 
     public static final Logger log = Logger.getLogger(AwsS3Client.class.getName());
 
@@ -53,8 +63,21 @@ public class AwsS3Client extends FileSystem {
      */
     public static final int DEFAULT_SOCKET_TIMEOUT = 60 * 1000;
 
+    /**
+     * The default size of a part uploaded by the output stream, S3 requires at least 5 MB.
+     */
+    public static final int DEFAULT_PART_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * The default number of parts uploaded in the background by the output stream.
+     */
+    public static final int DEFAULT_PARTS_IN_FLIGHT = 4;
+
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
     private AmazonS3 s3client;
     private Configuration config;
+    private ExecutorService uploadExecutor;
 
     /**
      * The method used for the file system configuration. It configure aws S3 client based on the s3 credentials.
@@ -67,8 +90,18 @@ public class AwsS3Client extends FileSystem {
         this.config = config;
         Map<String, Object> properties = config.getProperties();
         ClientConfiguration clientConfiguration = new ClientConfiguration();
-        clientConfiguration.setConnectionTimeout(DEFAULT_CONNECTION_TIMEOUT);
-        clientConfiguration.setSocketTimeout(DEFAULT_SOCKET_TIMEOUT);
+        clientConfiguration.setConnectionTimeout(
+                PropertyUtil.getInt(properties, AppConstants.CONNECTION_TIMEOUT, DEFAULT_CONNECTION_TIMEOUT));
+        clientConfiguration.setSocketTimeout(
+                PropertyUtil.getInt(properties, AppConstants.SOCKET_TIMEOUT, DEFAULT_SOCKET_TIMEOUT));
+        clientConfiguration.setMaxConnections(
+                PropertyUtil.getInt(properties, AppConstants.S3_MAX_CONNECTIONS, ClientConfiguration.DEFAULT_MAX_CONNECTIONS));
+        int keepAliveInterval = PropertyUtil.getInt(properties, AppConstants.KEEP_ALIVE_INTERVAL, 0);
+        if (keepAliveInterval > 0) {
+            // the pooled connections idle for longer than interval are validated before reuse
+            clientConfiguration.setUseTcpKeepAlive(true);
+            clientConfiguration.setValidateAfterInactivityMillis(keepAliveInterval);
+        }
         if (properties.get(AppConstants.S3_ACCESS_KEY) != null) {
             AWSCredentials credentials = new BasicAWSCredentials(
                     properties.get(AppConstants.S3_ACCESS_KEY).toString(),
@@ -82,9 +115,53 @@ public class AwsS3Client extends FileSystem {
                     .withRegion(Regions.valueOf(properties.get(AppConstants.REGION).toString()))
                     .withClientConfiguration(clientConfiguration).build();
         }
+        int warmUpConnections = PropertyUtil.getInt(properties, AppConstants.WARM_UP_CONNECTIONS, 0);
+        if (warmUpConnections > 0) {
+            if (PropertyUtil.getBoolean(properties, AppConstants.LAZY_CONNECT, false)) {
+                Thread warmUp = new Thread(() -> warmUp(warmUpConnections), "s3-warm-up");
+                warmUp.setDaemon(true);
+                warmUp.start();
+            } else {
+                warmUp(warmUpConnections);
+            }
+        }
         return this;
     }
 
+    /**
+     * Open the given number of pooled connections ahead of the first call by sending parallel head bucket requests,
+     * so the first calls do not pay for the connection and TLS handshake.
+     *
+     * @param connections - The number of connections to open.
+     */
+    private void warmUp(int connections) {
+        String bucketName = (String) config.getProperties().get(AppConstants.S3_BUCKET_NAME);
+        ExecutorService executor = Executors.newFixedThreadPool(connections);
+        try {
+            List<Future<?>> requests = new ArrayList<>();
+            for (int i = 0; i < connections; i++) {
+                requests.add(executor.submit(() -> {
+                    try {
+                        s3client.headBucket(new HeadBucketRequest(bucketName));
+                    } catch (AmazonServiceException e) {
+                        // the connection is opened even when the request is not authorized
+                        log.fine(String.format("The warm-up request failed. Cause: %s", e.getMessage()));
+                    }
+                }));
+            }
+            for (Future<?> request : requests) {
+                request.get();
+            }
+            log.info(String.format("The AWS S3 client is warmed up with %d connections.", connections));
+        } catch (ExecutionException e) {
+            log.warning(String.format("The AWS S3 client warm-up failed. Cause: %s", e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     /**
      * This method can be used to get the file input stream for given input file path.
      *
@@ -107,6 +184,54 @@ public class AwsS3Client extends FileSystem {
         throw new FileSystemException(String.format("The file: %s does not exist on S3.", filePath));
     }
 
+    /**
+     * This method can be used to get the input stream of the given byte range of file.
+     *
+     * @param filePath - The file path
+     * @param offset   - The offset of the first byte to read.
+     * @param length   - The number of bytes to read.
+     * @return Returns input stream of the given byte range of file.
+     * @throws FileSystemException
+     */
+    @Override
+    public InputStream read(String filePath, long offset, long length) throws FileSystemException {
+        if (length <= 0) {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+        Map<String, Object> properties = config.getProperties();
+        S3Object rangeObject = null;
+        try {
+            rangeObject = s3client.getObject(new GetObjectRequest((String) properties.get(AppConstants.S3_BUCKET_NAME), filePath)
+                    .withRange(offset, offset + length - 1));
+            if (rangeObject != null) {
+                return rangeObject.getObjectContent();
+            }
+        } catch (SdkClientException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_AWS_EXCEPTION, e);
+        }
+        throw new FileSystemException(String.format("The file: %s does not exist on S3.", filePath));
+    }
+
+    /**
+     * This method can be used to get the read only seekable channel for given input file path. The channel reads
+     * the object in blocks with ranged get requests, the blocks are cached and read ahead on sequential reads.
+     *
+     * @param filePath - The file path
+     * @return Returns read only seekable channel for given input file path.
+     * @throws FileSystemException
+     */
+    @Override
+    public SeekableByteChannel openChannel(String filePath) throws FileSystemException {
+        try {
+            ObjectMetadata metadata = s3client.getObjectMetadata(
+                    (String) config.getProperties().get(AppConstants.S3_BUCKET_NAME), filePath);
+            return RangedReadChannel.of(this, filePath, metadata.getContentLength());
+        } catch (SdkClientException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_AWS_EXCEPTION, e);
+        }
+        throw new FileSystemException(String.format("The file: %s does not exist on S3.", filePath));
+    }
+
     /**
      * This method can be used to upload file input stream to file system.
      *
@@ -127,6 +252,35 @@ public class AwsS3Client extends FileSystem {
         }
     }
 
+    /**
+     * This method can be used to get the output stream to write the file on file system incrementally. The written
+     * bytes are uploaded as multipart upload with fixed size parts in the background, closing the stream completes
+     * the upload and a failure aborts it.
+     *
+     * @param fileName - The file name to save on file system.
+     * @return Returns the output stream to write the file.
+     * @throws FileSystemException
+     */
+    @Override
+    public AbortableOutputStream openOutputStream(String fileName) throws FileSystemException {
+        ValidationUtil.rejectNull(fileName, "FileName");
+        Map<String, Object> properties = config.getProperties();
+        int partSize = Math.max(MIN_PART_SIZE, PropertyUtil.getInt(properties, AppConstants.S3_PART_SIZE, DEFAULT_PART_SIZE));
+        int partsInFlight = PropertyUtil.getInt(properties, AppConstants.S3_PARTS_IN_FLIGHT, DEFAULT_PARTS_IN_FLIGHT);
+        return new S3MultipartOutputStream(s3client, (String) properties.get(AppConstants.S3_BUCKET_NAME), fileName,
+                partSize, partsInFlight, getUploadExecutor());
+    }
+
+    /**
+     * @return Returns the executor to upload the parts in background, the threads do not block the JVM exit.
+     */
+    private synchronized ExecutorService getUploadExecutor() {
+        if (uploadExecutor == null) {
+            uploadExecutor = Executors.newCachedThreadPool(ThreadUtil.daemonThreadFactory("s3-upload"));
+        }
+        return uploadExecutor;
+    }
+
     /**
      * This method can be used to download the file from file system to specific destination path.
      *
@@ -140,14 +294,9 @@ public class AwsS3Client extends FileSystem {
         try (FileOutputStream fos = new FileOutputStream(new File(destination))) {
             S3Object o = s3client.getObject(new GetObjectRequest(
                     (String) config.getProperties().get(AppConstants.S3_BUCKET_NAME), source));
-            S3ObjectInputStream s3is = o.getObjectContent();
-
-            byte[] readBuf = new byte[1024];
-            int readLen = 0;
-            while ((readLen = s3is.read(readBuf)) > 0) {
-                fos.write(readBuf, 0, readLen);
+            try (S3ObjectInputStream s3is = o.getObjectContent()) {
+                BufferPool.getDefault().copy(s3is, fos);
             }
-            s3is.close();
         } catch (AmazonServiceException e) {
             ErrorUtil.fileSystemException(ExceptionConstants.STR_AWS_EXCEPTION, e);
         } catch (FileNotFoundException e) {
@@ -249,6 +398,201 @@ public class AwsS3Client extends FileSystem {
         return new ArrayList<>();
     }
 
+    /**
+     * This method will return the information of files available in the given input directory. The size, last
+     * modified time and ETag are taken from the object summaries, all the pages of listing are read.
+     *
+     * @param directory - The directory name from where to read the files.
+     * @return Returns the list of file information {@link FileInfo} available in the given input directory.
+     * @throws FileSystemException
+     */
+    @Override
+    public List<FileInfo> getListOfFileInfo(String directory) throws FileSystemException {
+        log.info("Received request to read list of object summaries from S3 from given directory.");
+        List<FileInfo> files = new ArrayList<>();
+        try {
+            iterateFileInfo(directory, true).forEachRemaining(files::add);
+        } catch (Exception e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_AWS_EXCEPTION, e);
+        }
+        log.info("Returning response after reading list of object summaries from S3 from given directory.");
+        return files;
+    }
+
+    /**
+     * This method will iterate the information of all the objects under the given prefix, the pages are fetched while
+     * iterating.
+     *
+     * @param directory - The directory name from where to read the files.
+     * @return Returns the iterator of file information {@link FileInfo} available in the given input directory.
+     */
+    @Override
+    public Iterator<FileInfo> iterateFileInfo(String directory) {
+        return iterateFileInfo(directory, true);
+    }
+
+    /**
+     * This method will return the lazy iterator over the information of files available in the given input
+     * directory. The next page of listing is requested only when the previous page is consumed. When listing is not
+     * recursive the sub folders are returned as directories instead of their objects.
+     *
+     * @param directory - The directory name (prefix) from where to read the files.
+     * @param recursive - True to list the objects of all the sub folders.
+     * @return Returns the iterator of file information {@link FileInfo} available in the given input directory.
+     */
+    public Iterator<FileInfo> iterateFileInfo(String directory, boolean recursive) {
+        ListObjectsV2Request req = new ListObjectsV2Request()
+                .withBucketName((String) config.getProperties().get(AppConstants.S3_BUCKET_NAME))
+                .withPrefix(directory);
+        if (!recursive) {
+            req.setDelimiter(AppConstants.CHAR_FS.toString());
+        }
+        return new Iterator<FileInfo>() {
+            private Iterator<FileInfo> page = Collections.emptyIterator();
+            private boolean truncated = true;
+
+            @Override
+            public boolean hasNext() {
+                while (!page.hasNext() && truncated) {
+                    ListObjectsV2Result listOfObjects = s3client.listObjectsV2(req);
+                    List<FileInfo> files = new ArrayList<>();
+                    for (String commonPrefix : listOfObjects.getCommonPrefixes()) {
+                        files.add(new FileInfo(commonPrefix, 0L, 0L, null, true));
+                    }
+                    for (S3ObjectSummary summary : listOfObjects.getObjectSummaries()) {
+                        files.add(toFileInfo(summary));
+                    }
+                    req.setContinuationToken(listOfObjects.getNextContinuationToken());
+                    truncated = listOfObjects.isTruncated();
+                    page = files.iterator();
+                }
+                return page.hasNext();
+            }
+
+            @Override
+            public FileInfo next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.next();
+            }
+        };
+    }
+
+    /**
+     * This method can be used to get the file information of the single object with one metadata request. When no
+     * object has the key, the key is looked up as the folder with one key listing of its prefix.
+     *
+     * @param key - The object key.
+     * @return Returns the file information {@link FileInfo}, the folder path ends with slash, or null when neither the
+     * object nor the folder exists.
+     * @throws FileSystemException
+     */
+    public FileInfo getFileInfo(String key) throws FileSystemException {
+        String bucketName = (String) config.getProperties().get(AppConstants.S3_BUCKET_NAME);
+        try {
+            ObjectMetadata metadata = s3client.getObjectMetadata(bucketName, key);
+            return new FileInfo(key, metadata.getContentLength(),
+                    metadata.getLastModified() != null ? metadata.getLastModified().getTime() : 0L,
+                    metadata.getETag(), key.endsWith(AppConstants.CHAR_FS.toString()));
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() != 404) {
+                ErrorUtil.fileSystemException(ExceptionConstants.STR_AWS_EXCEPTION, e);
+            }
+        } catch (SdkClientException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_AWS_EXCEPTION, e);
+        }
+        String folder = key.endsWith(AppConstants.CHAR_FS.toString()) ? key : key + AppConstants.CHAR_FS;
+        try {
+            ListObjectsV2Result listing = s3client.listObjectsV2(new ListObjectsV2Request()
+                    .withBucketName(bucketName).withPrefix(folder).withMaxKeys(1));
+            if (!listing.getObjectSummaries().isEmpty()) {
+                return new FileInfo(folder, 0L, 0L, null, true);
+            }
+        } catch (SdkClientException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_AWS_EXCEPTION, e);
+        }
+        return null;
+    }
+
+    /**
+     * This method can be used to find the objects matching the glob pattern and the predicate. The literal prefix of
+     * pattern is pushed down as the listing prefix, the levels without ** are listed with delimiter so only the
+     * matching common prefixes are descended into, the rest of tree below ** is listed flat. The listing stops once
+     * the limit is reached, and the object summaries are matched by key before any file information is created.
+     *
+     * @param glob   - The glob pattern matched against the object keys e.g. logs/2026-10-*&#47;part-*.gz
+     * @param filter - The optional predicate the matching files must satisfy.
+     * @param limit  - The maximum number of files to return, 0 for no limit.
+     * @return Returns the list of file information {@link FileInfo} of the matching objects.
+     * @throws FileSystemException
+     */
+    @Override
+    public List<FileInfo> findFiles(String glob, Predicate<FileInfo> filter, int limit) throws FileSystemException {
+        log.info(String.format("Received request to find the objects matching: %s", glob));
+        GlobPattern pattern = GlobPattern.compile(glob);
+        List<FileInfo> found = new ArrayList<>();
+        try {
+            findObjects(pattern, pattern.getBaseDirectory(), filter, limit > 0 ? limit : Integer.MAX_VALUE, found);
+        } catch (Exception e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_AWS_EXCEPTION, e);
+        }
+        log.info(String.format("Returning %d objects matching: %s", found.size(), glob));
+        return found;
+    }
+
+    /**
+     * List the objects under the directory narrowed to the literal prefix of its children, and descend into the
+     * matching common prefixes.
+     */
+    private void findObjects(GlobPattern pattern, String directory, Predicate<FileInfo> filter, int limit,
+                             List<FileInfo> found) {
+        ListObjectsV2Request req = new ListObjectsV2Request()
+                .withBucketName((String) config.getProperties().get(AppConstants.S3_BUCKET_NAME))
+                .withPrefix(directory + pattern.getChildPrefix(directory));
+        if (!pattern.isRecursiveBelow(directory)) {
+            req.setDelimiter(AppConstants.CHAR_FS.toString());
+        }
+        ListObjectsV2Result listOfObjects;
+        do {
+            listOfObjects = s3client.listObjectsV2(req);
+            for (S3ObjectSummary summary : listOfObjects.getObjectSummaries()) {
+                String key = summary.getKey();
+                if (key.endsWith(AppConstants.CHAR_FS.toString()) || !pattern.matches(key)) {
+                    continue;
+                }
+                FileInfo file = toFileInfo(summary);
+                if (filter == null || filter.test(file)) {
+                    found.add(file);
+                    if (found.size() >= limit) {
+                        return;
+                    }
+                }
+            }
+            for (String commonPrefix : listOfObjects.getCommonPrefixes()) {
+                if (pattern.matchesDirectory(commonPrefix)) {
+                    findObjects(pattern, commonPrefix, filter, limit, found);
+                    if (found.size() >= limit) {
+                        return;
+                    }
+                }
+            }
+            req.setContinuationToken(listOfObjects.getNextContinuationToken());
+        } while (listOfObjects.isTruncated());
+    }
+
+    /**
+     * Convert the S3 object summary into file information, the keys ending with / are folders.
+     *
+     * @param summary - The S3 object summary.
+     * @return Returns the file information {@link FileInfo}
+     */
+    static FileInfo toFileInfo(S3ObjectSummary summary) {
+        return new FileInfo(summary.getKey(), summary.getSize(),
+                summary.getLastModified() != null ? summary.getLastModified().getTime() : 0L,
+                summary.getETag(), summary.getKey().endsWith(AppConstants.CHAR_FS.toString()));
+    }
+
     /**
      * This method can be used to get the list of bucket.
      *
@@ -307,6 +651,22 @@ public class AwsS3Client extends FileSystem {
         }
     }
 
+    /**
+     * This method can be used to release the connections of the S3 client and stop the upload threads, the client can
+     * not be used after it is closed.
+     */
+    @Override
+    public synchronized void close() {
+        log.info("Received request to close the S3 client.");
+        if (uploadExecutor != null) {
+            uploadExecutor.shutdown();
+            uploadExecutor = null;
+        }
+        if (s3client != null) {
+            s3client.shutdown();
+        }
+    }
+
     /**
      * Remove objects from the bucket.
      *
@@ -0,0 +1,233 @@
+package com.github.filesystem.client;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import com.github.filesystem.io.AbortableOutputStream;
+import com.github.filesystem.io.BufferPool;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.logging.Logger;
+
+/**
+ * The output stream uploading the object with multipart upload. The written bytes are collected into fixed size parts
+ * and every full part is uploaded in the background while the producer keeps writing. At most the configured number
+ * of parts are held in memory, the producer waits when all of them are still uploading. The object smaller than one
+ * part is uploaded with a single put request. The part buffers are taken from the shared buffer pool and returned
+ * to it when the upload completes or is aborted.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+final class S3MultipartOutputStream extends AbortableOutputStream {
+
+    public static final Logger log = Logger.getLogger(S3MultipartOutputStream.class.getName());
+
+    private final AmazonS3 s3client;
+    private final String bucketName;
+    private final String key;
+    private final int partSize;
+    private final int maxBuffers;
+    private final ExecutorService executor;
+    private final BlockingQueue<ByteBuffer> freeBuffers = new LinkedBlockingQueue<>();
+    private final List<Future<PartETag>> parts = new ArrayList<>();
+    private int allocatedBuffers;
+    private ByteBuffer partBuffer;
+    private byte[] buffer;
+    private int position;
+    private String uploadId;
+    private boolean closed;
+
+    S3MultipartOutputStream(AmazonS3 s3client, String bucketName, String key, int partSize, int partsInFlight,
+                            ExecutorService executor) {
+        this.s3client = s3client;
+        this.bucketName = bucketName;
+        this.key = key;
+        this.partSize = partSize;
+        this.maxBuffers = Math.max(1, partsInFlight) + 1;
+        this.executor = executor;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureBuffer();
+        buffer[position++] = (byte) b;
+        if (position == partSize) {
+            uploadPart();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ensureBuffer();
+            int length = Math.min(len, partSize - position);
+            System.arraycopy(b, off, buffer, position, length);
+            position += length;
+            off += length;
+            len -= length;
+            if (position == partSize) {
+                uploadPart();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            if (uploadId == null) {
+                putObject();
+            } else {
+                if (position > 0) {
+                    uploadPart();
+                }
+                List<PartETag> partETags = new ArrayList<>();
+                for (Future<PartETag> part : parts) {
+                    partETags.add(part.get());
+                }
+                s3client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+            }
+            closed = true;
+            releaseBuffers();
+            log.info("File upload operation is successful");
+        } catch (SdkClientException | ExecutionException e) {
+            abort();
+            throw new IOException(String.format("The upload of file: %s is aborted.", key), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort();
+            throw new InterruptedIOException(String.format("The upload of file: %s is interrupted.", key));
+        } catch (IOException e) {
+            abort();
+            throw e;
+        }
+    }
+
+    @Override
+    public void abort() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        parts.forEach(part -> part.cancel(true));
+        if (uploadId != null) {
+            try {
+                s3client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+            } catch (SdkClientException e) {
+                log.severe(String.format("The multipart upload of file: %s could not be aborted. Cause: %s", key, e));
+            }
+        }
+        releaseBuffers();
+        log.info(String.format("The upload of file: %s is aborted.", key));
+    }
+
+    /**
+     * Return the buffers of the finished parts and the current part to the pool, the buffers of the cancelled parts
+     * still uploading are left to garbage collector.
+     */
+    private void releaseBuffers() {
+        BufferPool pool = BufferPool.getDefault();
+        pool.release(partBuffer);
+        partBuffer = null;
+        buffer = null;
+        ByteBuffer free;
+        while ((free = freeBuffers.poll()) != null) {
+            pool.release(free);
+        }
+    }
+
+    /**
+     * Take the free buffer for the next part, waits for the uploading part when all the buffers are in use.
+     * Failed part uploads are reported here so the producer stops writing early.
+     */
+    private void ensureBuffer() throws IOException {
+        if (closed) {
+            throw new IOException("The stream is closed.");
+        }
+        if (buffer != null) {
+            return;
+        }
+        try {
+            checkFailedParts();
+            partBuffer = freeBuffers.poll();
+            if (partBuffer == null && allocatedBuffers < maxBuffers) {
+                allocatedBuffers++;
+                partBuffer = BufferPool.getDefault().acquire(partSize);
+            } else if (partBuffer == null) {
+                partBuffer = freeBuffers.take();
+            }
+            buffer = partBuffer.array();
+            position = 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort();
+            throw new InterruptedIOException(String.format("The upload of file: %s is interrupted.", key));
+        }
+    }
+
+    private void checkFailedParts() throws IOException {
+        for (Future<PartETag> part : parts) {
+            if (part.isDone()) {
+                try {
+                    part.get();
+                } catch (ExecutionException | InterruptedException | CancellationException e) {
+                    abort();
+                    throw new IOException(String.format("The upload of file: %s is aborted.", key), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Upload the current buffer as next part in the background, the buffer is returned to free buffers once uploaded.
+     */
+    private void uploadPart() throws IOException {
+        try {
+            if (uploadId == null) {
+                uploadId = s3client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key))
+                        .getUploadId();
+            }
+        } catch (SdkClientException e) {
+            abort();
+            throw new IOException(String.format("The upload of file: %s is aborted.", key), e);
+        }
+        final ByteBuffer uploading = partBuffer;
+        final byte[] data = buffer;
+        final int length = position;
+        final int partNumber = parts.size() + 1;
+        partBuffer = null;
+        buffer = null;
+        position = 0;
+        parts.add(executor.submit(() -> {
+            try {
+                return s3client.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(new ByteArrayInputStream(data, 0, length))
+                        .withPartSize(length)).getPartETag();
+            } finally {
+                freeBuffers.offer(uploading);
+            }
+        }));
+    }
+
+    private void putObject() {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(position);
+        byte[] data = buffer != null ? buffer : new byte[0];
+        s3client.putObject(new PutObjectRequest(bucketName, key, new ByteArrayInputStream(data, 0, position), metadata));
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.github.filesystem.client;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSchException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * The pool of SFTP channels opened on the same session, so that parallel operations do not share a channel.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+final class SftpChannelPool {
+
+    /**
+     * Opens a new connected SFTP channel.
+     */
+    interface ChannelOpener {
+        ChannelSftp open() throws JSchException;
+    }
+
+    private final ChannelOpener opener;
+    private final Semaphore permits;
+    private final BlockingQueue<ChannelSftp> idle = new LinkedBlockingQueue<>();
+
+    SftpChannelPool(ChannelOpener opener, int size) {
+        this.opener = opener;
+        this.permits = new Semaphore(Math.max(1, size));
+    }
+
+    /**
+     * Borrow a channel from the pool, blocks until one is available. Disconnected idle channels are replaced.
+     *
+     * @return Returns the connected channel.
+     * @throws JSchException
+     * @throws InterruptedException
+     */
+    ChannelSftp borrow() throws JSchException, InterruptedException {
+        permits.acquire();
+        try {
+            ChannelSftp channel;
+            while ((channel = idle.poll()) != null) {
+                if (channel.isConnected()) {
+                    return channel;
+                }
+                channel.disconnect();
+            }
+            return opener.open();
+        } catch (JSchException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return the borrowed channel to the pool.
+     *
+     * @param channel - The borrowed channel.
+     */
+    void release(ChannelSftp channel) {
+        if (channel.isConnected()) {
+            idle.offer(channel);
+        } else {
+            channel.disconnect();
+        }
+        permits.release();
+    }
+
+    /**
+     * Open the given number of channels ahead of the first borrow, the channels are kept idle in the pool.
+     *
+     * @param count - The number of channels to open.
+     * @throws JSchException
+     * @throws InterruptedException
+     */
+    void warmUp(int count) throws JSchException, InterruptedException {
+        List<ChannelSftp> channels = new ArrayList<>();
+        try {
+            for (int i = 0; i < count; i++) {
+                channels.add(borrow());
+            }
+        } finally {
+            channels.forEach(this::release);
+        }
+    }
+
+    /**
+     * Disconnect all the idle channels.
+     */
+    void close() {
+        ChannelSftp channel;
+        while ((channel = idle.poll()) != null) {
+            channel.disconnect();
+        }
+    }
+
+}
@@ -3,20 +3,41 @@ package com.github.filesystem.client;
 import com.github.filesystem.FileSystem;
 import com.github.filesystem.annotation.Component;
 import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.io.AbortableOutputStream;
+import com.github.filesystem.io.BufferPool;
+import com.github.filesystem.io.RangeInputStream;
+import com.github.filesystem.io.RangedReadChannel;
 import com.github.filesystem.model.Configuration;
+import com.github.filesystem.model.FileInfo;
 import com.github.filesystem.util.AppConstants;
 import com.github.filesystem.util.ErrorUtil;
 import com.github.filesystem.util.ExceptionConstants;
+import com.github.filesystem.util.GlobPattern;
+import com.github.filesystem.util.PropertyUtil;
 import com.jcraft.jsch.*;
 import com.jcraft.jsch.ChannelSftp.LsEntry;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 /**
@@ -29,12 +50,54 @@ import java.util.logging.Logger;
 @Getter
 @NoArgsConstructor
 @Component(AppConstants.STR_SFTP)
-public class SftpClient extends FileSystem {
+public class SftpClient extends FileSystem implements Closeable {
 
     public static final Logger log = Logger.getLogger(SftpClient.class.getName());
 
+    /**
+     * The default number of read/write requests kept in flight per channel in high-throughput mode.
+     */
+    public static final int DEFAULT_BULK_REQUESTS = 64;
+
+    /**
+     * The default size of the stream buffers in high-throughput mode. JSch sizes the SFTP requests itself from the
+     * packet size of the server, the buffers are sized to match its usual 32 KB requests.
+     */
+    public static final int DEFAULT_STREAM_BUFFER_SIZE = 32 * 1024;
+
+    /**
+     * The default number of parallel channels used to download a file in high-throughput mode.
+     */
+    public static final int DEFAULT_TRANSFER_STREAMS = 4;
+
+    /**
+     * The default number of pooled channels used by parallel operations.
+     */
+    public static final int DEFAULT_POOL_SIZE = 8;
+
+    /**
+     * The default size of write buffer of the output stream.
+     */
+    public static final int DEFAULT_WRITE_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * The interval to wait for the next entry found by the recursive walk.
+     */
+    private static final long WALK_POLL_INTERVAL = 100;
+
+    private Session session;
+    private int connectionTimeout;
+    private int socketTimeout;
+    private int keepAliveInterval;
     private ChannelSftp sftpChannel;
+    private SftpChannelPool channelPool;
+    private int poolSize;
+    private int writeBufferSize;
     private Configuration config;
+    private boolean highThroughput;
+    private int bulkRequests;
+    private int streamBufferSize;
+    private int transferStreams;
 
     /**
      * The method used for the file system configuration. It configure sftp client based on the sftp credentials.
@@ -46,19 +109,30 @@ public class SftpClient extends FileSystem {
         log.info("Configuring the SFTP client.");
         this.config = config;
         Map<String, Object> properties = config.getProperties();
-        JSch jsch = new JSch();
-        try {
-            Session session = jsch.getSession((String) properties.get(AppConstants.SFTP_USERNAME),
-                    (String) properties.get(AppConstants.SFTP_HOSTNAME),
-                    (int) properties.get(AppConstants.SFTP_PORT));
-            session.setConfig("StrictHostKeyChecking", "no");
-            session.setPassword((String) properties.get(AppConstants.SFTP_PASSWORD));
-            session.connect();
-            Channel channel = session.openChannel(AppConstants.STR_SFTP.toLowerCase());
-            channel.connect();
-            sftpChannel = (ChannelSftp) channel;
-        } catch (JSchException e) {
-            ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
+        highThroughput = PropertyUtil.getBoolean(properties, AppConstants.SFTP_HIGH_THROUGHPUT, false);
+        bulkRequests = PropertyUtil.getInt(properties, AppConstants.SFTP_BULK_REQUESTS, DEFAULT_BULK_REQUESTS);
+        streamBufferSize = PropertyUtil.getInt(properties, AppConstants.SFTP_STREAM_BUFFER_SIZE,
+                DEFAULT_STREAM_BUFFER_SIZE);
+        transferStreams = PropertyUtil.getInt(properties, AppConstants.SFTP_TRANSFER_STREAMS, DEFAULT_TRANSFER_STREAMS);
+        poolSize = PropertyUtil.getInt(properties, AppConstants.SFTP_POOL_SIZE, DEFAULT_POOL_SIZE);
+        writeBufferSize = PropertyUtil.getInt(properties, AppConstants.SFTP_WRITE_BUFFER_SIZE, DEFAULT_WRITE_BUFFER_SIZE);
+        connectionTimeout = PropertyUtil.getInt(properties, AppConstants.CONNECTION_TIMEOUT, 0);
+        socketTimeout = PropertyUtil.getInt(properties, AppConstants.SOCKET_TIMEOUT, 0);
+        keepAliveInterval = PropertyUtil.getInt(properties, AppConstants.KEEP_ALIVE_INTERVAL, 0);
+        int warmUpConnections = Math.min(poolSize, PropertyUtil.getInt(properties, AppConstants.WARM_UP_CONNECTIONS, 0));
+        channelPool = new SftpChannelPool(this::openChannel, poolSize);
+        if (PropertyUtil.getBoolean(properties, AppConstants.LAZY_CONNECT, false)) {
+            // the session is connected on the first call or by the background warm-up
+            if (warmUpConnections > 0) {
+                Thread warmUp = new Thread(() -> warmUp(warmUpConnections), "sftp-warm-up");
+                warmUp.setDaemon(true);
+                warmUp.start();
+            }
+            return this;
+        }
+        connectedChannel();
+        if (warmUpConnections > 0) {
+            warmUp(warmUpConnections);
         }
         return this;
     }
@@ -74,13 +148,57 @@ public class SftpClient extends FileSystem {
     public InputStream read(String filePath) throws FileSystemException {
         InputStream inputStream = null;
         try {
-            inputStream = sftpChannel.get(filePath);
+            inputStream = connectedChannel().get(filePath);
+            if (highThroughput) {
+                // read the whole buffer at once so that the channel keeps the window of requests in flight
+                inputStream = new BufferedInputStream(inputStream, streamBufferSize);
+            }
+        } catch (SftpException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
+        }
+        return inputStream;
+    }
+
+    /**
+     * This method can be used to get the input stream of the given byte range of file. The file is read from the
+     * given offset, no bytes before the offset are transferred.
+     *
+     * @param filePath - The file path
+     * @param offset   - The offset of the first byte to read.
+     * @param length   - The number of bytes to read.
+     * @return Returns input stream of the given byte range of file.
+     * @throws FileSystemException
+     */
+    @Override
+    public InputStream read(String filePath, long offset, long length) throws FileSystemException {
+        InputStream inputStream = null;
+        try {
+            inputStream = new RangeInputStream(connectedChannel().get(filePath, null, offset), length);
         } catch (SftpException e) {
             ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
         }
         return inputStream;
     }
 
+    /**
+     * This method can be used to get the read only seekable channel for given input file path. The channel reads
+     * the file in blocks with offset based reads, the blocks are cached and read ahead on sequential reads.
+     *
+     * @param filePath - The file path
+     * @return Returns read only seekable channel for given input file path.
+     * @throws FileSystemException
+     */
+    @Override
+    public SeekableByteChannel openChannel(String filePath) throws FileSystemException {
+        SeekableByteChannel channel = null;
+        try {
+            channel = RangedReadChannel.of(this, filePath, connectedChannel().stat(filePath).getSize());
+        } catch (SftpException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
+        }
+        return channel;
+    }
+
     /**
      * This method can be used to upload file input stream to file system.
      *
@@ -92,13 +210,45 @@ public class SftpClient extends FileSystem {
     public void uploadFile(InputStream inputStream, String fileName) throws FileSystemException {
         log.info("Received request for uploading file to sftp.");
         try {
-            sftpChannel.put(inputStream, fileName);
+            connectedChannel().put(highThroughput ? new BufferedInputStream(inputStream, streamBufferSize) : inputStream,
+                    fileName);
         } catch (SftpException e) {
             ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
         }
         log.info("Returning after uploading file to sftp.");
     }
 
+    /**
+     * This method can be used to get the output stream to write the file on file system incrementally. The stream
+     * writes a temporary part file over a pooled channel through a large write buffer, closing the stream renames it
+     * to the given file name and a failure removes it.
+     *
+     * @param fileName - The file name to save on file system.
+     * @return Returns the output stream to write the file.
+     * @throws FileSystemException
+     */
+    @Override
+    public AbortableOutputStream openOutputStream(String fileName) throws FileSystemException {
+        log.info("Received request for opening output stream to sftp.");
+        AbortableOutputStream outputStream = null;
+        try {
+            ChannelSftp channel = channelPool.borrow();
+            try {
+                OutputStream out = channel.put(fileName + SftpOutputStream.PART_SUFFIX, ChannelSftp.OVERWRITE);
+                outputStream = new SftpOutputStream(channelPool, channel, out, fileName, writeBufferSize);
+            } catch (SftpException e) {
+                channelPool.release(channel);
+                throw e;
+            }
+        } catch (JSchException | SftpException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_INTERRUPTED_EXCEPTION, e);
+        }
+        return outputStream;
+    }
+
     /**
      * This method can be used to download the file from file system to specific destination path.
      *
@@ -109,8 +259,13 @@ public class SftpClient extends FileSystem {
     @Override
     public void downloadFile(String source, String destination) throws FileSystemException {
         log.info("Received request for downloading a file from sftp.");
+        if (highThroughput) {
+            downloadInSegments(source, destination);
+            log.info("Returning after downloading a file from sftp.");
+            return;
+        }
         try {
-            sftpChannel.get(source, destination);
+            connectedChannel().get(source, destination);
         } catch (SftpException e) {
             ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
         }
@@ -127,7 +282,7 @@ public class SftpClient extends FileSystem {
     public void deleteFile(String fileKey) throws FileSystemException {
         log.info("Received request to delete file from sftp.");
         try {
-            sftpChannel.rm(fileKey);
+            connectedChannel().rm(fileKey);
         } catch (SftpException e) {
             ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
         }
@@ -143,7 +298,7 @@ public class SftpClient extends FileSystem {
     @Override
     public void createFolder(String folderName) throws FileSystemException {
         try {
-            sftpChannel.mkdir(folderName);
+            connectedChannel().mkdir(folderName);
             log.info("Folder created successfully");
         } catch (SftpException e) {
             ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
@@ -161,7 +316,7 @@ public class SftpClient extends FileSystem {
     public void copyFile(String sourceFilePath, String targetFilePath) throws FileSystemException {
         log.info("Received request for copying a file from s3.");
         try {
-            sftpChannel.put(sourceFilePath, targetFilePath);
+            connectedChannel().put(sourceFilePath, targetFilePath);
         } catch (SftpException e) {
             ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
         }
@@ -190,7 +345,7 @@ public class SftpClient extends FileSystem {
         log.info(String.format("Received request to get the list of files in directory: %s", directory));
         List<String> files = new ArrayList<>();
         try {
-            Vector ls = sftpChannel.ls(directory);
+            Vector ls = connectedChannel().ls(directory);
             for (int i = 0; i < ls.size(); i++) {
                 LsEntry entry = (LsEntry) ls.get(i);
                 files.add(entry.getFilename());
@@ -202,4 +357,461 @@ public class SftpClient extends FileSystem {
         return files;
     }
 
+    /**
+     * This method will return the information of files available in the given input directory. The size and last
+     * modified time are taken from the attributes returned with the listing, the current and parent directory
+     * entries are skipped.
+     *
+     * @param directory - The directory name from where to read the files.
+     * @return Returns the list of file information {@link FileInfo} available in the given input directory.
+     * @throws FileSystemException
+     */
+    @Override
+    public List<FileInfo> getListOfFileInfo(String directory) throws FileSystemException {
+        log.info(String.format("Received request to get the list of file information in directory: %s", directory));
+        List<FileInfo> files = new ArrayList<>();
+        try {
+            Vector<LsEntry> ls = connectedChannel().ls(directory);
+            for (LsEntry entry : ls) {
+                if (!isSelfOrParent(entry.getFilename())) {
+                    files.add(toFileInfo(directory, entry));
+                }
+            }
+        } catch (SftpException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
+        }
+        log.info(String.format("Returning response with the list of file information from directory: %s", directory));
+        return files;
+    }
+
+    /**
+     * This method can be used to get the file information of the single file or directory in one round-trip, the
+     * symbolic links are followed.
+     *
+     * @param filePath - The file or directory name.
+     * @return Returns the file information {@link FileInfo}, or null when the file does not exist.
+     * @throws FileSystemException
+     */
+    public FileInfo getFileInfo(String filePath) throws FileSystemException {
+        try {
+            return toFileInfo(filePath, connectedChannel().stat(filePath));
+        } catch (SftpException e) {
+            if (e.id == ChannelSftp.SSH_FX_NO_SUCH_FILE) {
+                return null;
+            }
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
+        }
+        return null;
+    }
+
+    /**
+     * This method will walk the directory tree recursively and pass the path of every file and directory found to
+     * the consumer. The directories are listed in parallel over the pooled channels, the consumer is always called
+     * on the calling thread as soon as the entries are found.
+     *
+     * @param directory - The directory name from where to start the walk.
+     * @param consumer  - The consumer of the found paths.
+     * @throws FileSystemException
+     */
+    public void walk(String directory, Consumer<String> consumer) throws FileSystemException {
+        walk(directory, Integer.MAX_VALUE, null, consumer);
+    }
+
+    /**
+     * This method will walk the directory tree recursively and pass the path of every file and directory found to
+     * the consumer. The directories are listed in parallel over the pooled channels, the consumer is always called
+     * on the calling thread as soon as the entries are found.
+     *
+     * @param directory - The directory name from where to start the walk.
+     * @param maxDepth  - The maximum number of directory levels to visit, 1 lists only the given directory.
+     * @param glob      - The optional glob pattern matched against the path relative to the directory e.g. **.csv
+     * @param consumer  - The consumer of the found paths.
+     * @throws FileSystemException
+     */
+    public void walk(String directory, int maxDepth, String glob, Consumer<String> consumer) throws FileSystemException {
+        log.info(String.format("Received request to walk the directory: %s", directory));
+        PathMatcher matcher = glob != null ? FileSystems.getDefault().getPathMatcher("glob:" + glob) : null;
+        BlockingQueue<String> found = new LinkedBlockingQueue<>();
+        ForkJoinPool forkJoinPool = new ForkJoinPool(poolSize);
+        try {
+            ForkJoinTask<Void> walk = forkJoinPool.submit(new WalkTask(directory, "", 1, maxDepth, matcher, found));
+            while (!walk.isDone() || !found.isEmpty()) {
+                String path = found.poll(WALK_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                if (path != null) {
+                    consumer.accept(path);
+                }
+            }
+            walk.get();
+        } catch (ExecutionException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_INTERRUPTED_EXCEPTION, e);
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+        log.info(String.format("Returning after walking the directory: %s", directory));
+    }
+
+    /**
+     * This method can be used to find the files matching the glob pattern and the predicate. The walk starts at the
+     * directory of the literal prefix of pattern and descends only into the directories under which the pattern may
+     * match. The entry names are matched in a reused path buffer, and the listing of directory is broken off once the
+     * limit is reached.
+     *
+     * @param glob   - The glob pattern matched against the file paths e.g. /data/logs/2026-10-*&#47;part-*.gz
+     * @param filter - The optional predicate the matching files must satisfy.
+     * @param limit  - The maximum number of files to return, 0 for no limit.
+     * @return Returns the list of file information {@link FileInfo} of the matching files.
+     * @throws FileSystemException
+     */
+    @Override
+    public List<FileInfo> findFiles(String glob, Predicate<FileInfo> filter, int limit) throws FileSystemException {
+        log.info(String.format("Received request to find the files matching: %s", glob));
+        GlobPattern pattern = GlobPattern.compile(glob);
+        List<FileInfo> found = new ArrayList<>();
+        ChannelSftp channel = null;
+        try {
+            channel = channelPool.borrow();
+            findFiles(channel, pattern, pattern.getBaseDirectory(), filter, limit > 0 ? limit : Integer.MAX_VALUE,
+                    found, new StringBuilder());
+        } catch (JSchException | SftpException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_INTERRUPTED_EXCEPTION, e);
+        } finally {
+            if (channel != null) {
+                channelPool.release(channel);
+            }
+        }
+        log.info(String.format("Returning %d files matching: %s", found.size(), glob));
+        return found;
+    }
+
+    /**
+     * List the directory and descend into the matching sub directories once its listing is complete, as the channel
+     * can not list another directory from within the listing.
+     */
+    private void findFiles(ChannelSftp channel, GlobPattern pattern, String directory, Predicate<FileInfo> filter,
+                           int limit, List<FileInfo> found, StringBuilder path) throws SftpException {
+        String childPrefix = pattern.getChildPrefix(directory);
+        List<String> subDirectories = new ArrayList<>();
+        path.setLength(0);
+        path.append(directory);
+        if (path.length() > 0 && path.charAt(path.length() - 1) != '/') {
+            path.append('/');
+        }
+        int nameStart = path.length();
+        channel.ls(directory.isEmpty() ? "." : directory, entry -> {
+            String fileName = entry.getFilename();
+            if (isSelfOrParent(fileName) || !fileName.startsWith(childPrefix)) {
+                return ChannelSftp.LsEntrySelector.CONTINUE;
+            }
+            path.setLength(nameStart);
+            path.append(fileName);
+            if (entry.getAttrs().isDir()) {
+                if (pattern.matchesDirectory(path)) {
+                    subDirectories.add(path.toString());
+                }
+            } else if (pattern.matches(path)) {
+                FileInfo file = toFileInfo(directory, entry);
+                if (filter == null || filter.test(file)) {
+                    found.add(file);
+                }
+            }
+            return found.size() >= limit ? ChannelSftp.LsEntrySelector.BREAK : ChannelSftp.LsEntrySelector.CONTINUE;
+        });
+        for (String subDirectory : subDirectories) {
+            if (found.size() >= limit) {
+                return;
+            }
+            findFiles(channel, pattern, subDirectory, filter, limit, found, path);
+        }
+    }
+
+    /**
+     * This method can be used to disconnect the pooled channels, the channel of the single call operations and the
+     * session. The next call connects the session again.
+     */
+    @Override
+    public synchronized void close() {
+        log.info("Received request to close the SFTP client.");
+        if (channelPool != null) {
+            channelPool.close();
+        }
+        if (sftpChannel != null) {
+            sftpChannel.disconnect();
+            sftpChannel = null;
+        }
+        if (session != null) {
+            session.disconnect();
+            session = null;
+        }
+    }
+
+    /**
+     * Get the connected session, the session is connected on the first call and reconnected when it is found
+     * disconnected e.g. dropped by the server or detected dead by the keep-alive.
+     *
+     * @return Returns the connected session.
+     * @throws JSchException
+     */
+    private synchronized Session connectedSession() throws JSchException {
+        if (session != null && session.isConnected()) {
+            return session;
+        }
+        if (session != null) {
+            log.warning("The SFTP session is disconnected, reconnecting.");
+            session.disconnect();
+        }
+        Map<String, Object> properties = config.getProperties();
+        Session newSession = new JSch().getSession((String) properties.get(AppConstants.SFTP_USERNAME),
+                (String) properties.get(AppConstants.SFTP_HOSTNAME),
+                (int) properties.get(AppConstants.SFTP_PORT));
+        newSession.setConfig("StrictHostKeyChecking", "no");
+        newSession.setPassword((String) properties.get(AppConstants.SFTP_PASSWORD));
+        newSession.setTimeout(socketTimeout);
+        if (keepAliveInterval > 0) {
+            newSession.setServerAliveInterval(keepAliveInterval);
+        }
+        newSession.connect(connectionTimeout);
+        session = newSession;
+        return session;
+    }
+
+    /**
+     * Get the connected channel for the single call operations, the channel is reopened on the reconnected session
+     * when it is found disconnected.
+     *
+     * @return Returns the connected channel.
+     * @throws FileSystemException
+     */
+    private synchronized ChannelSftp connectedChannel() throws FileSystemException {
+        try {
+            if (sftpChannel == null || !sftpChannel.isConnected()) {
+                sftpChannel = openChannel();
+            }
+        } catch (JSchException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
+        }
+        return sftpChannel;
+    }
+
+    /**
+     * Connect the session and open the given number of pooled channels ahead of the first call.
+     *
+     * @param connections - The number of channels to open.
+     */
+    private void warmUp(int connections) {
+        try {
+            connectedChannel();
+            channelPool.warmUp(connections);
+            log.info(String.format("The SFTP client is warmed up with %d channels.", connections));
+        } catch (FileSystemException | JSchException e) {
+            log.warning(String.format("The SFTP client warm-up failed, connecting on the next call. Cause: %s", e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Open a new SFTP channel on the connected session. In high-throughput mode the channel keeps the configured
+     * number of read/write requests in flight instead of the small default window.
+     *
+     * @return Returns the connected SFTP channel.
+     * @throws JSchException
+     */
+    private ChannelSftp openChannel() throws JSchException {
+        ChannelSftp channel = (ChannelSftp) connectedSession().openChannel(AppConstants.STR_SFTP.toLowerCase());
+        channel.connect(connectionTimeout);
+        if (highThroughput) {
+            channel.setBulkRequests(bulkRequests);
+        }
+        return channel;
+    }
+
+    /**
+     * Download the file by splitting it into segments, every segment is read on its own channel and written into
+     * the destination file at the segment offset. Files smaller than one request window use a single channel.
+     *
+     * @param source      - The source file name to download from file system.
+     * @param destination - The destination file name to save on local system.
+     * @throws FileSystemException
+     */
+    private void downloadInSegments(String source, String destination) throws FileSystemException {
+        ExecutorService executor = null;
+        try (FileChannel fileChannel = FileChannel.open(Paths.get(destination), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = connectedChannel().stat(source).getSize();
+            long window = (long) bulkRequests * streamBufferSize;
+            int streams = (int) Math.max(1, Math.min(Math.min(transferStreams, poolSize), size / window));
+            long segmentSize = (size + streams - 1) / streams;
+            executor = Executors.newFixedThreadPool(streams);
+            List<Future<Void>> segments = new ArrayList<>();
+            for (int i = 0; i < streams; i++) {
+                long start = i * segmentSize;
+                long end = Math.min(size, start + segmentSize);
+                segments.add(executor.submit(() -> downloadSegment(source, fileChannel, start, end)));
+            }
+            for (Future<Void> segment : segments) {
+                segment.get();
+            }
+        } catch (SftpException | ExecutionException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_SFTP_EXCEPTION, e);
+        } catch (IOException e) {
+            ErrorUtil.fileSystemException(String.format(ExceptionConstants.STR_FILE_EXCEPTION, destination), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_INTERRUPTED_EXCEPTION, e);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Download the byte range [start, end) of the source file into the file channel at the same offset.
+     * The request buffer is taken from the buffer pool and reused for the whole segment.
+     *
+     * @param source      - The source file name to download from file system.
+     * @param fileChannel - The destination file channel.
+     * @param start       - The segment start offset.
+     * @param end         - The segment end offset (exclusive).
+     * @return Returns null once the segment is written.
+     * @throws JSchException
+     * @throws SftpException
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    private Void downloadSegment(String source, FileChannel fileChannel, long start, long end)
+            throws JSchException, SftpException, IOException, InterruptedException {
+        ChannelSftp channel = channelPool.borrow();
+        ByteBuffer buffer = BufferPool.getDefault().acquire(streamBufferSize);
+        try (InputStream in = channel.get(source, null, start)) {
+            long position = start;
+            while (position < end) {
+                int read = in.read(buffer.array(), 0, (int) Math.min(streamBufferSize, end - position));
+                if (read < 0) {
+                    break;
+                }
+                buffer.limit(read);
+                while (buffer.hasRemaining()) {
+                    position += fileChannel.write(buffer, position);
+                }
+                buffer.clear();
+            }
+        } finally {
+            BufferPool.getDefault().release(buffer);
+            channelPool.release(channel);
+        }
+        return null;
+    }
+
+    /**
+     * Convert the listing entry into file information, SFTP does not provide checksum so ETag is null.
+     *
+     * @param directory - The listed directory name.
+     * @param entry     - The listing entry.
+     * @return Returns the file information {@link FileInfo}
+     */
+    static FileInfo toFileInfo(String directory, LsEntry entry) {
+        return toFileInfo(childPath(directory, entry.getFilename()), entry.getAttrs());
+    }
+
+    /**
+     * Convert the file attributes into file information, SFTP does not provide checksum so ETag is null.
+     *
+     * @param filePath - The file path.
+     * @param attrs    - The file attributes.
+     * @return Returns the file information.
+     */
+    private static FileInfo toFileInfo(String filePath, SftpATTRS attrs) {
+        // the modification time is unsigned seconds, masked so it stays positive after 2038
+        return new FileInfo(filePath, attrs.getSize(), (attrs.getMTime() & 0xFFFFFFFFL) * 1000L, null, attrs.isDir());
+    }
+
+    /**
+     * @param fileName - The file name from listing.
+     * @return Returns true for the current and parent directory entries.
+     */
+    private static boolean isSelfOrParent(String fileName) {
+        return ".".equals(fileName) || "..".equals(fileName);
+    }
+
+    /**
+     * Join the directory and the file name into a path.
+     *
+     * @param directory - The directory name.
+     * @param fileName  - The file name.
+     * @return Returns the joined path.
+     */
+    private static String childPath(String directory, String fileName) {
+        if (directory.isEmpty()) {
+            return fileName;
+        }
+        return directory.endsWith(AppConstants.CHAR_FS.toString()) ? directory + fileName
+                : directory + AppConstants.CHAR_FS + fileName;
+    }
+
+    /**
+     * The fork-join task to list one directory on a pooled channel and fork the walk of its sub directories.
+     * The channel is released before the sub directories are joined so the pool can never be exhausted.
+     */
+    private class WalkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String directory;
+        private final String relative;
+        private final int depth;
+        private final int maxDepth;
+        private final transient PathMatcher matcher;
+        private final transient BlockingQueue<String> found;
+
+        WalkTask(String directory, String relative, int depth, int maxDepth, PathMatcher matcher,
+                 BlockingQueue<String> found) {
+            this.directory = directory;
+            this.relative = relative;
+            this.depth = depth;
+            this.maxDepth = maxDepth;
+            this.matcher = matcher;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            List<WalkTask> subDirectories = new ArrayList<>();
+            ChannelSftp channel;
+            try {
+                channel = channelPool.borrow();
+            } catch (JSchException | InterruptedException e) {
+                throw new CompletionException(e);
+            }
+            try {
+                channel.ls(directory, entry -> {
+                    String fileName = entry.getFilename();
+                    if (isSelfOrParent(fileName)) {
+                        return ChannelSftp.LsEntrySelector.CONTINUE;
+                    }
+                    String relativePath = childPath(relative, fileName);
+                    if (matcher == null || matcher.matches(Paths.get(relativePath))) {
+                        found.add(childPath(directory, fileName));
+                    }
+                    if (entry.getAttrs().isDir() && depth < maxDepth) {
+                        subDirectories.add(new WalkTask(childPath(directory, fileName), relativePath, depth + 1,
+                                maxDepth, matcher, found));
+                    }
+                    return ChannelSftp.LsEntrySelector.CONTINUE;
+                });
+            } catch (SftpException e) {
+                throw new CompletionException(e);
+            } finally {
+                channelPool.release(channel);
+            }
+            invokeAll(subDirectories);
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.github.filesystem.client;
+
+import com.github.filesystem.io.AbortableOutputStream;
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.SftpException;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.logging.Logger;
+
+/**
+ * The output stream writing the file over a pooled SFTP channel. The bytes are written through a large buffer into
+ * a temporary part file, closing the stream renames the part file to the target file and aborting removes it, so the
+ * readers never see a partially written file. The channel is returned to the pool once the stream is closed.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+final class SftpOutputStream extends AbortableOutputStream {
+
+    public static final Logger log = Logger.getLogger(SftpOutputStream.class.getName());
+
+    /**
+     * The suffix of temporary file written until the stream is closed.
+     */
+    static final String PART_SUFFIX = ".part";
+
+    private final SftpChannelPool channelPool;
+    private final ChannelSftp channel;
+    private final OutputStream out;
+    private final String filePath;
+    private boolean closed;
+
+    SftpOutputStream(SftpChannelPool channelPool, ChannelSftp channel, OutputStream out, String filePath,
+                     int bufferSize) {
+        this.channelPool = channelPool;
+        this.channel = channel;
+        this.out = new BufferedOutputStream(out, bufferSize);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        try {
+            out.write(b);
+        } catch (IOException e) {
+            abort();
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        try {
+            out.write(b, off, len);
+        } catch (IOException e) {
+            abort();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        String partPath = filePath + PART_SUFFIX;
+        try {
+            out.close();
+            try {
+                channel.rename(partPath, filePath);
+            } catch (SftpException e) {
+                // the servers without posix rename do not overwrite the existing file
+                channel.rm(filePath);
+                channel.rename(partPath, filePath);
+            }
+            closed = true;
+            channelPool.release(channel);
+            log.info("Returning after uploading file to sftp.");
+        } catch (IOException | SftpException e) {
+            abort();
+            throw new IOException(String.format("The upload of file: %s is aborted.", filePath), e);
+        }
+    }
+
+    @Override
+    public void abort() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.fine(String.format("The part file: %s%s is not closed. Cause: %s", filePath, PART_SUFFIX, e));
+        }
+        try {
+            channel.rm(filePath + PART_SUFFIX);
+        } catch (SftpException e) {
+            log.severe(String.format("The part file: %s%s could not be removed. Cause: %s", filePath, PART_SUFFIX, e));
+        }
+        channelPool.release(channel);
+        log.info(String.format("The upload of file: %s is aborted.", filePath));
+    }
+
+}
@@ -0,0 +1,260 @@
+package com.github.filesystem.decorator;
+
+import com.github.filesystem.FileSystem;
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.io.BufferPool;
+import com.github.filesystem.model.FileInfo;
+import com.github.filesystem.util.ErrorUtil;
+import com.github.filesystem.util.ExceptionConstants;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+/**
+ * The coalescing file system. The concurrent reads and listings of the same path share one call to the decorated
+ * file system, the callers arriving while the call runs wait for it and get its result. The read file is buffered
+ * once in memory, or in a temporary file when it is larger than the memory threshold, and every caller gets its own
+ * stream over the buffered bytes. The results are not cached, the call after the shared one completes goes to the
+ * decorated file system again.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public class CoalescingFileSystem extends FileSystemDecorator {
+
+    public static final Logger log = Logger.getLogger(CoalescingFileSystem.class.getName());
+
+    /**
+     * The default size in bytes of the read file buffered in memory, the larger file is spilled to disk.
+     */
+    public static final int DEFAULT_MEMORY_THRESHOLD = 8 * 1024 * 1024;
+
+    private final int memoryThreshold;
+    private final Path spillDirectory;
+    private final Map<String, Flight<?>> flights = new ConcurrentHashMap<>();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * @param delegate - The file system to read from.
+     */
+    public CoalescingFileSystem(FileSystem delegate) {
+        this(delegate, DEFAULT_MEMORY_THRESHOLD, System.getProperty("java.io.tmpdir"));
+    }
+
+    /**
+     * @param delegate        - The file system to read from.
+     * @param memoryThreshold - The size in bytes of the read file buffered in memory.
+     * @param spillDirectory  - The directory of the temporary files of larger reads.
+     */
+    public CoalescingFileSystem(FileSystem delegate, int memoryThreshold, String spillDirectory) {
+        super(delegate);
+        this.memoryThreshold = memoryThreshold;
+        this.spillDirectory = Paths.get(spillDirectory);
+    }
+
+    @Override
+    public InputStream read(String filePath) throws FileSystemException {
+        return coalesce("read:" + filePath, () -> buffer(delegate.read(filePath)), SharedContent::addReferences)
+                .open();
+    }
+
+    @Override
+    public InputStream read(String filePath, long offset, long length) throws FileSystemException {
+        String key = "range:" + offset + ":" + length + ":" + filePath;
+        return coalesce(key, () -> buffer(delegate.read(filePath, offset, length)), SharedContent::addReferences)
+                .open();
+    }
+
+    @Override
+    public List<String> getListOfFiles(String directory) throws FileSystemException {
+        return new ArrayList<>(coalesce("list:" + directory, () -> delegate.getListOfFiles(directory), null));
+    }
+
+    @Override
+    public List<FileInfo> getListOfFileInfo(String directory) throws FileSystemException {
+        return new ArrayList<>(coalesce("info:" + directory, () -> delegate.getListOfFileInfo(directory), null));
+    }
+
+    /**
+     * @return Returns the number of calls served by the result of another concurrent call.
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * Run the loader once for all the concurrent callers of the key, the first caller runs it on its thread.
+     *
+     * @param key    - The operation and path.
+     * @param loader - The call to decorated file system.
+     * @param landed - Called by the first caller with the result and number of callers after the call completes.
+     * @return Returns the shared result.
+     * @throws FileSystemException
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(String key, Loader<T> loader, BiConsumer<T, Integer> landed) throws FileSystemException {
+        Flight<?>[] joined = new Flight<?>[1];
+        boolean[] leader = new boolean[1];
+        flights.compute(key, (k, flight) -> {
+            if (flight == null) {
+                flight = new Flight<T>();
+                leader[0] = true;
+            }
+            flight.participants++;
+            joined[0] = flight;
+            return flight;
+        });
+        Flight<T> flight = (Flight<T>) joined[0];
+        if (!leader[0]) {
+            coalesced.incrementAndGet();
+            return await(flight.result);
+        }
+        try {
+            T result = loader.load();
+            flight.result.complete(result);
+        } catch (FileSystemException | RuntimeException e) {
+            flight.result.completeExceptionally(e);
+        } finally {
+            if (!flight.result.isDone()) {
+                flight.result.completeExceptionally(new FileSystemException(ExceptionConstants.STR_IO_EXCEPTION));
+            }
+            int[] participants = new int[1];
+            flights.compute(key, (k, current) -> {
+                participants[0] = flight.participants;
+                return current == flight ? null : current;
+            });
+            if (landed != null && !flight.result.isCompletedExceptionally()) {
+                landed.accept(flight.result.join(), participants[0]);
+            }
+        }
+        return await(flight.result);
+    }
+
+    private static <T> T await(CompletableFuture<T> result) throws FileSystemException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_INTERRUPTED_EXCEPTION, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FileSystemException) {
+                throw (FileSystemException) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        }
+        return null;
+    }
+
+    /**
+     * Read the stream fully into memory, the bytes above the memory threshold are spilled to temporary file.
+     */
+    private SharedContent buffer(InputStream in) throws FileSystemException {
+        Path spill = null;
+        ByteBuffer buffer = BufferPool.getDefault().acquire(BufferPool.COPY_BUFFER_SIZE);
+        try (InputStream input = in) {
+            ByteArrayOutputStream memory = new ByteArrayOutputStream();
+            int read;
+            while ((read = input.read(buffer.array(), 0, buffer.limit())) > 0) {
+                memory.write(buffer.array(), 0, read);
+                if (memory.size() > memoryThreshold) {
+                    spill = Files.createTempFile(spillDirectory, "coalesced-", ".tmp");
+                    try (OutputStream out = Files.newOutputStream(spill)) {
+                        memory.writeTo(out);
+                        memory = null;
+                        BufferPool.getDefault().copy(input, out);
+                    }
+                    return new SharedContent(null, spill);
+                }
+            }
+            return new SharedContent(memory.toByteArray(), null);
+        } catch (IOException e) {
+            if (spill != null) {
+                spill.toFile().delete();
+            }
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_IO_EXCEPTION, e);
+        } finally {
+            BufferPool.getDefault().release(buffer);
+        }
+        return null;
+    }
+
+    /**
+     * The call to decorated file system.
+     */
+    private interface Loader<T> {
+        T load() throws FileSystemException;
+    }
+
+    /**
+     * The running call shared by its participants.
+     */
+    private static final class Flight<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private int participants;
+    }
+
+    /**
+     * The buffered file shared by the callers. The spilled file is deleted when the stream of every caller is
+     * closed, the references are counted down by the closed streams and up by the first caller once it knows the
+     * number of callers.
+     */
+    private static final class SharedContent {
+        private final byte[] bytes;
+        private final Path file;
+        private final AtomicInteger references = new AtomicInteger();
+
+        SharedContent(byte[] bytes, Path file) {
+            this.bytes = bytes;
+            this.file = file;
+        }
+
+        InputStream open() throws FileSystemException {
+            if (bytes != null) {
+                return new ByteArrayInputStream(bytes);
+            }
+            try {
+                return new FilterInputStream(new BufferedInputStream(Files.newInputStream(file), BufferPool.COPY_BUFFER_SIZE)) {
+                    private boolean closed;
+
+                    @Override
+                    public void close() throws IOException {
+                        if (!closed) {
+                            closed = true;
+                            super.close();
+                            addReferences(-1);
+                        }
+                    }
+                };
+            } catch (IOException e) {
+                addReferences(-1);
+                ErrorUtil.fileSystemException(ExceptionConstants.STR_IO_EXCEPTION, e);
+            }
+            return null;
+        }
+
+        void addReferences(int delta) {
+            if (file != null && references.addAndGet(delta) == 0) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warning(String.format("The spilled file: %s could not be removed. Cause: %s", file, e));
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,651 @@
+package com.github.filesystem.decorator;
+
+import com.github.filesystem.FileSystem;
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.io.AbortableOutputStream;
+import com.github.filesystem.io.BufferPool;
+import com.github.filesystem.io.ContentDefinedChunker;
+import com.github.filesystem.io.RangedReadChannel;
+import com.github.filesystem.model.FileInfo;
+import com.github.filesystem.util.ErrorUtil;
+import com.github.filesystem.util.ExceptionConstants;
+import com.github.filesystem.util.ThreadUtil;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+/**
+ * The deduplicating file system. Every uploaded file is split into content-defined chunks, each chunk is stored once
+ * in the chunk directory under its SHA-256 hash and the file itself is stored as the small manifest listing its
+ * chunks. Uploading a file which differs slightly from the already stored one sends only the changed chunks, the
+ * reads reassemble the file from the chunks fetched in parallel.
+ * <p>
+ * The chunks are shared between the files, so deleting a file removes only its manifest. The chunk directory is
+ * hidden from the listings. The files not written through this file system are read as they are.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public class DeduplicatingFileSystem extends FileSystemDecorator implements Closeable {
+
+    public static final Logger log = Logger.getLogger(DeduplicatingFileSystem.class.getName());
+
+    /**
+     * The default directory of the chunks.
+     */
+    public static final String DEFAULT_CHUNK_DIRECTORY = ".chunks";
+
+    /**
+     * The default average chunk size in bytes.
+     */
+    public static final int DEFAULT_AVERAGE_CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * The default number of chunks uploaded or fetched in parallel.
+     */
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    private static final String MANIFEST_HEADER = "#dedup-manifest 1";
+
+    private final String chunkDirectory;
+    private final int averageChunkSize;
+    private final int concurrency;
+    private final ExecutorService executor;
+    private final Set<String> storedChunks = ConcurrentHashMap.newKeySet();
+    private final Set<String> folders = ConcurrentHashMap.newKeySet();
+    private final Map<String, ChunkUpload> uploads = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate - The file system to store the chunks and manifests.
+     */
+    public DeduplicatingFileSystem(FileSystem delegate) {
+        this(delegate, DEFAULT_CHUNK_DIRECTORY, DEFAULT_AVERAGE_CHUNK_SIZE, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * @param delegate         - The file system to store the chunks and manifests.
+     * @param chunkDirectory   - The directory of the chunks.
+     * @param averageChunkSize - The average chunk size in bytes, rounded to power of two.
+     * @param concurrency      - The number of chunks uploaded or fetched in parallel.
+     */
+    public DeduplicatingFileSystem(FileSystem delegate, String chunkDirectory, int averageChunkSize, int concurrency) {
+        super(delegate);
+        this.chunkDirectory = chunkDirectory;
+        this.averageChunkSize = averageChunkSize;
+        this.concurrency = Math.max(1, concurrency);
+        this.executor = Executors.newFixedThreadPool(this.concurrency, ThreadUtil.daemonThreadFactory("dedup-transfer"));
+    }
+
+    /**
+     * This method can be used to upload file input stream to file system. Only the chunks not yet stored are
+     * uploaded.
+     *
+     * @param inputStream - The file input stream.
+     * @param fileName    - The file name to save on file system.
+     * @throws FileSystemException
+     */
+    @Override
+    public void uploadFile(InputStream inputStream, String fileName) throws FileSystemException {
+        ChunkingOutputStream out = new ChunkingOutputStream(fileName);
+        try {
+            BufferPool.getDefault().copy(inputStream, out);
+            out.close();
+        } catch (IOException e) {
+            out.abort();
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_CHUNK_EXCEPTION, e);
+        }
+    }
+
+    /**
+     * This method can be used to get the output stream to write the file, the chunks are uploaded while writing and
+     * closing the stream stores the manifest.
+     *
+     * @param fileName - The file name to save on file system.
+     * @return Returns the output stream to write the file.
+     * @throws FileSystemException
+     */
+    @Override
+    public AbortableOutputStream openOutputStream(String fileName) throws FileSystemException {
+        return new ChunkingOutputStream(fileName);
+    }
+
+    @Override
+    public InputStream read(String filePath) throws FileSystemException {
+        BufferedInputStream in = new BufferedInputStream(delegate.read(filePath));
+        Manifest manifest = readManifest(in);
+        if (manifest == null) {
+            return in;
+        }
+        return new ChunkInputStream(manifest, 0, manifest.size);
+    }
+
+    @Override
+    public InputStream read(String filePath, long offset, long length) throws FileSystemException {
+        Manifest manifest = loadManifest(filePath);
+        if (manifest == null) {
+            return delegate.read(filePath, offset, length);
+        }
+        return new ChunkInputStream(manifest, offset, length);
+    }
+
+    @Override
+    public SeekableByteChannel openChannel(String filePath) throws FileSystemException {
+        Manifest manifest = loadManifest(filePath);
+        if (manifest == null) {
+            return delegate.openChannel(filePath);
+        }
+        // the blocks are read from the manifest loaded once, so the channel sees one version of the file
+        return RangedReadChannel.of(new FileSystemDecorator(this) {
+            @Override
+            public InputStream read(String path, long offset, long length) {
+                return new ChunkInputStream(manifest, offset, length);
+            }
+        }, filePath, manifest.size);
+    }
+
+    @Override
+    public void downloadFile(String source, String destination) throws FileSystemException {
+        try (InputStream in = read(source)) {
+            Files.copy(in, Paths.get(destination), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_CHUNK_EXCEPTION, e);
+        }
+    }
+
+    @Override
+    public List<String> getListOfFiles(String directory) throws FileSystemException {
+        List<String> files = new ArrayList<>();
+        for (String file : delegate.getListOfFiles(directory)) {
+            if (!isInFolder(directory, file, chunkDirectory)) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    @Override
+    public List<FileInfo> getListOfFileInfo(String directory) throws FileSystemException {
+        List<FileInfo> files = new ArrayList<>();
+        for (FileInfo file : delegate.getListOfFileInfo(directory)) {
+            if (!isInFolder(directory, file.getPath(), chunkDirectory)) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    @Override
+    public Iterator<FileInfo> iterateFileInfo(String directory) throws FileSystemException {
+        return filter(delegate.iterateFileInfo(directory),
+                file -> !isInFolder(directory, file.getPath(), chunkDirectory));
+    }
+
+    @Override
+    public List<FileInfo> findFiles(String glob, Predicate<FileInfo> filter, int limit) throws FileSystemException {
+        return delegate.findFiles(glob, file -> !isInFolder("", file.getPath(), chunkDirectory)
+                && (filter == null || filter.test(file)), limit);
+    }
+
+    /**
+     * Stop the transfer threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private Manifest loadManifest(String filePath) throws FileSystemException {
+        try (BufferedInputStream in = new BufferedInputStream(delegate.read(filePath))) {
+            return readManifest(in);
+        } catch (IOException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_IO_EXCEPTION, e);
+        }
+        return null;
+    }
+
+    /**
+     * Read the manifest from the stream, the stream is reset when the file is not a manifest.
+     *
+     * @param in - The stream of the stored file.
+     * @return Returns the manifest or null when the file is not a manifest.
+     * @throws FileSystemException
+     */
+    private Manifest readManifest(BufferedInputStream in) throws FileSystemException {
+        byte[] header = MANIFEST_HEADER.getBytes(StandardCharsets.UTF_8);
+        try {
+            in.mark(header.length);
+            byte[] read = new byte[header.length];
+            int length = 0;
+            int count;
+            while (length < read.length && (count = in.read(read, length, read.length - length)) > 0) {
+                length += count;
+            }
+            if (length < header.length || !Arrays.equals(header, read)) {
+                in.reset();
+                return null;
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                reader.readLine();
+                return Manifest.parse(reader);
+            }
+        } catch (IOException | RuntimeException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_PARSING_EXCEPTION, e);
+        }
+        return null;
+    }
+
+    private String chunkFolder(String hash) {
+        return chunkDirectory + "/" + hash.substring(0, 2);
+    }
+
+    private String chunkKey(String hash) {
+        return chunkFolder(hash) + "/" + hash;
+    }
+
+    /**
+     * Store the chunk unless it is already stored, the same chunk written by parallel uploads is sent once. The
+     * pooled chunk buffer is released once it is not needed.
+     *
+     * @param hash  - The hash of the chunk.
+     * @param chunk - The chunk, the limit of the buffer is the chunk length.
+     * @return Returns the upload of the chunk or null when the chunk is stored already.
+     */
+    private ChunkUpload storeChunk(String hash, ByteBuffer chunk) {
+        if (storedChunks.contains(hash)) {
+            BufferPool.getDefault().release(chunk);
+            return null;
+        }
+        ChunkUpload upload = new ChunkUpload(hash, chunk);
+        while (true) {
+            ChunkUpload existing = uploads.putIfAbsent(hash, upload);
+            if (existing == null) {
+                executor.execute(upload);
+                return upload;
+            }
+            if (existing.join()) {
+                BufferPool.getDefault().release(chunk);
+                return existing;
+            }
+            // the upload was cancelled by all of its writers before it started
+            uploads.remove(hash, existing);
+        }
+    }
+
+    private boolean chunkExists(String hash) {
+        try (InputStream in = delegate.read(chunkKey(hash), 0, 1)) {
+            return in.read() >= 0;
+        } catch (FileSystemException | IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Create the folder of chunks once, the folder may exist already.
+     */
+    private void ensureFolder(String folderName) {
+        if (folders.add(folderName)) {
+            try {
+                delegate.createFolder(folderName);
+            } catch (FileSystemException e) {
+                log.fine(String.format("The folder: %s is not created. Cause: %s", folderName, e.getMessage()));
+            }
+        }
+    }
+
+    private ByteBuffer fetchChunk(String hash, int length) throws IOException, FileSystemException {
+        ByteBuffer chunk = BufferPool.getDefault().acquire(length);
+        byte[] bytes = chunk.array();
+        try (InputStream in = delegate.read(chunkKey(hash))) {
+            int read = 0;
+            int count;
+            while (read < length && (count = in.read(bytes, read, length - read)) > 0) {
+                read += count;
+            }
+            if (read < length || !hash.equals(sha256(bytes, length))) {
+                throw new IOException(String.format("The chunk: %s is corrupted.", hash));
+            }
+        } catch (IOException | FileSystemException | RuntimeException e) {
+            BufferPool.getDefault().release(chunk);
+            throw e;
+        }
+        return chunk;
+    }
+
+    private static String sha256(byte[] bytes, int length) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(bytes, 0, length);
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * The manifest of the file, the ordered chunk hashes with their offsets in the file.
+     */
+    private static final class Manifest {
+        private final List<String> hashes = new ArrayList<>();
+        private final List<Long> offsets = new ArrayList<>();
+        private long size;
+
+        void add(String hash, int length) {
+            hashes.add(hash);
+            offsets.add(size);
+            size += length;
+        }
+
+        int length(int index) {
+            long end = index + 1 < offsets.size() ? offsets.get(index + 1) : size;
+            return (int) (end - offsets.get(index));
+        }
+
+        /**
+         * @return Returns the index of the chunk holding the offset.
+         */
+        int indexOf(long offset) {
+            int index = Collections.binarySearch(offsets, offset);
+            return index >= 0 ? index : -index - 2;
+        }
+
+        String format() {
+            StringBuilder text = new StringBuilder(MANIFEST_HEADER).append('\n');
+            text.append(size).append('\n');
+            for (int i = 0; i < hashes.size(); i++) {
+                text.append(hashes.get(i)).append(' ').append(length(i)).append('\n');
+            }
+            return text.toString();
+        }
+
+        static Manifest parse(BufferedReader reader) throws IOException {
+            long size = Long.parseLong(reader.readLine().trim());
+            Manifest manifest = new Manifest();
+            String line;
+            while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                int separator = line.indexOf(' ');
+                manifest.add(line.substring(0, separator), Integer.parseInt(line.substring(separator + 1)));
+            }
+            if (manifest.size != size) {
+                throw new IOException("The manifest size does not match its chunks.");
+            }
+            return manifest;
+        }
+    }
+
+    /**
+     * The upload of one chunk shared by the streams writing the same chunk. The upload not yet started is cancelled
+     * once every stream waiting for it is aborted, its buffer is released then.
+     */
+    private final class ChunkUpload implements Runnable {
+        private final String hash;
+        private final ByteBuffer chunk;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private int writers = 1;
+        private boolean started;
+
+        ChunkUpload(String hash, ByteBuffer chunk) {
+            this.hash = hash;
+            this.chunk = chunk;
+        }
+
+        /**
+         * Add the writer waiting for the upload.
+         *
+         * @return Returns false when the upload is cancelled already.
+         */
+        synchronized boolean join() {
+            if (writers == 0 && !started) {
+                return false;
+            }
+            writers++;
+            return true;
+        }
+
+        /**
+         * Remove the aborted writer, the upload is cancelled when no writer waits for it and it is not started.
+         */
+        void leave() {
+            synchronized (this) {
+                if (--writers > 0 || started) {
+                    return;
+                }
+            }
+            uploads.remove(hash, this);
+            BufferPool.getDefault().release(chunk);
+            future.cancel(false);
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (writers == 0) {
+                    return;
+                }
+                started = true;
+            }
+            try {
+                if (!chunkExists(hash)) {
+                    ensureFolder(chunkDirectory);
+                    ensureFolder(chunkFolder(hash));
+                    delegate.uploadFile(new ByteArrayInputStream(chunk.array(), 0, chunk.limit()), chunkKey(hash));
+                }
+                storedChunks.add(hash);
+                future.complete(null);
+            } catch (FileSystemException | RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                uploads.remove(hash, this);
+                BufferPool.getDefault().release(chunk);
+            }
+        }
+    }
+
+    /**
+     * The output stream splitting the file into chunks, the new chunks are uploaded in background with bounded
+     * number of chunks held in memory.
+     */
+    private final class ChunkingOutputStream extends AbortableOutputStream {
+        private final String fileName;
+        private final ContentDefinedChunker chunker;
+        private final Manifest manifest = new Manifest();
+        private final List<ChunkUpload> stored = new ArrayList<>();
+        private final Semaphore permits = new Semaphore(concurrency * 2);
+        private boolean closed;
+
+        ChunkingOutputStream(String fileName) {
+            this.fileName = fileName;
+            this.chunker = new ContentDefinedChunker(averageChunkSize, this::store);
+        }
+
+        private void store(byte[] chunk, int length) throws IOException {
+            String hash = sha256(chunk, length);
+            manifest.add(hash, length);
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ExceptionConstants.STR_INTERRUPTED_EXCEPTION);
+            }
+            ByteBuffer copy = BufferPool.getDefault().acquire(length);
+            System.arraycopy(chunk, 0, copy.array(), 0, length);
+            ChunkUpload upload = storeChunk(hash, copy);
+            if (upload == null) {
+                permits.release();
+                return;
+            }
+            upload.future.whenComplete((result, e) -> permits.release());
+            stored.add(upload);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("The stream is closed.");
+            }
+            chunker.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                chunker.finish();
+                CompletableFuture<?>[] futures = new CompletableFuture<?>[stored.size()];
+                for (int i = 0; i < futures.length; i++) {
+                    futures[i] = stored.get(i).future;
+                }
+                CompletableFuture.allOf(futures).get();
+                delegate.uploadFile(new ByteArrayInputStream(manifest.format().getBytes(StandardCharsets.UTF_8)),
+                        fileName);
+                stored.clear();
+            } catch (InterruptedException e) {
+                abort();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ExceptionConstants.STR_INTERRUPTED_EXCEPTION);
+            } catch (ExecutionException | FileSystemException e) {
+                abort();
+                throw new IOException(ExceptionConstants.STR_CHUNK_EXCEPTION, e);
+            } catch (IOException | RuntimeException e) {
+                abort();
+                throw e;
+            }
+        }
+
+        /**
+         * Discard the file, the manifest is not stored. The chunk uploads not yet started are cancelled unless other
+         * uploads wait for them, the chunks uploaded already stay for the next uploads.
+         */
+        @Override
+        public void abort() {
+            closed = true;
+            for (ChunkUpload upload : stored) {
+                upload.leave();
+            }
+            stored.clear();
+        }
+    }
+
+    /**
+     * The input stream reassembling the range of the file from its chunks, the next chunks are fetched in parallel
+     * ahead of the reader.
+     */
+    private final class ChunkInputStream extends InputStream {
+        private final Manifest manifest;
+        private final Deque<Future<ByteBuffer>> ahead = new ArrayDeque<>();
+        private int next;
+        private int end;
+        private ByteBuffer current;
+        private int position;
+        private long remaining;
+
+        ChunkInputStream(Manifest manifest, long offset, long length) {
+            this.manifest = manifest;
+            this.remaining = Math.max(0, Math.min(length, manifest.size - offset));
+            if (remaining > 0) {
+                this.next = manifest.indexOf(offset);
+                this.position = (int) (offset - manifest.offsets.get(next));
+                this.end = manifest.indexOf(offset + remaining - 1) + 1;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            while (ahead.size() < concurrency && next < end) {
+                String hash = manifest.hashes.get(next);
+                int length = manifest.length(next++);
+                ahead.add(executor.submit(() -> fetchChunk(hash, length)));
+            }
+        }
+
+        private boolean nextChunk() throws IOException {
+            Future<ByteBuffer> future = ahead.poll();
+            if (future == null) {
+                return false;
+            }
+            try {
+                ByteBuffer chunk = future.get();
+                if (current != null) {
+                    BufferPool.getDefault().release(current);
+                    position = 0;
+                }
+                current = chunk;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ExceptionConstants.STR_INTERRUPTED_EXCEPTION);
+            } catch (ExecutionException e) {
+                throw new IOException(ExceptionConstants.STR_CHUNK_EXCEPTION, e.getCause());
+            }
+            schedule();
+            return true;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining <= 0) {
+                return -1;
+            }
+            while (current == null || position >= current.limit()) {
+                if (!nextChunk()) {
+                    return -1;
+                }
+            }
+            int count = (int) Math.min(Math.min(len, current.limit() - position), remaining);
+            System.arraycopy(current.array(), position, b, off, count);
+            position += count;
+            remaining -= count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            for (Future<ByteBuffer> future : ahead) {
+                if (!future.cancel(true) && future.isDone()) {
+                    try {
+                        BufferPool.getDefault().release(future.get());
+                    } catch (InterruptedException | ExecutionException e) {
+                        // the failed fetch holds no buffer
+                    }
+                }
+            }
+            ahead.clear();
+            BufferPool.getDefault().release(current);
+            current = null;
+            remaining = 0;
+        }
+    }
+
+}
@@ -0,0 +1,573 @@
+package com.github.filesystem.decorator;
+
+import com.github.filesystem.FileSystem;
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.io.AbortableOutputStream;
+import com.github.filesystem.io.BufferPool;
+import com.github.filesystem.io.RangedReadChannel;
+import com.github.filesystem.util.ErrorUtil;
+import com.github.filesystem.util.ExceptionConstants;
+import com.github.filesystem.util.ThreadUtil;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+/**
+ * The encrypting file system. The files are encrypted on the fly with AES-GCM in fixed size chunks, every chunk is
+ * authenticated on its own so the chunks are encrypted and decrypted in parallel on all the cores, and the ranged
+ * reads and channels decrypt only the chunks of the requested range.
+ * <p>
+ * The encrypted file starts with the header of the format magic, the chunk size and the random file nonce, followed by
+ * the chunks of at most chunk size bytes each followed by its 16 bytes tag. The nonce of the chunk is the file nonce
+ * combined with the chunk index, and the header, chunk index and last chunk flag are authenticated with every chunk,
+ * so the reordered, truncated or extended chunks fail to decrypt. The listings report the size of the encrypted files.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public class EncryptingFileSystem extends FileSystemDecorator implements Closeable {
+
+    public static final Logger log = Logger.getLogger(EncryptingFileSystem.class.getName());
+
+    /**
+     * The default size in bytes of the plaintext of one chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int MAGIC = 0x46534531;
+    private static final int NONCE_LENGTH = 12;
+    private static final int TAG_LENGTH = 16;
+    private static final int HEADER_LENGTH = 8 + NONCE_LENGTH;
+
+    private final SecretKey key;
+    private final int chunkSize;
+    private final int window;
+    private final ExecutorService executor;
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(EncryptingFileSystem::newCipher);
+
+    /**
+     * @param delegate - The file system to store the encrypted files on.
+     * @param key      - The AES key.
+     */
+    public EncryptingFileSystem(FileSystem delegate, SecretKey key) {
+        this(delegate, key, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param delegate  - The file system to store the encrypted files on.
+     * @param key       - The AES key.
+     * @param chunkSize - The size in bytes of the plaintext of one chunk of the written files.
+     * @param threads   - The number of chunks encrypted or decrypted in parallel.
+     */
+    public EncryptingFileSystem(FileSystem delegate, SecretKey key, int chunkSize, int threads) {
+        super(delegate);
+        if (!"AES".equalsIgnoreCase(key.getAlgorithm())) {
+            throw new IllegalArgumentException(String.format("The key algorithm: %s is not AES.", key.getAlgorithm()));
+        }
+        newCipher();
+        this.key = key;
+        this.chunkSize = Math.max(1024, chunkSize);
+        int concurrency = Math.max(1, threads);
+        this.window = concurrency * 2;
+        this.executor = Executors.newFixedThreadPool(concurrency, ThreadUtil.daemonThreadFactory("encryption"));
+    }
+
+    @Override
+    public InputStream read(String filePath) throws FileSystemException {
+        InputStream in = delegate.read(filePath);
+        try {
+            Header header = readHeader(in);
+            return new DecryptingInputStream(in, header, 0, Long.MAX_VALUE, 0, Long.MAX_VALUE);
+        } catch (IOException e) {
+            closeQuietly(in);
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_ENCRYPTION_EXCEPTION, e);
+        }
+        return null;
+    }
+
+    /**
+     * This method can be used to get the input stream of the given byte range of file, only the chunks of the range
+     * are read and decrypted.
+     *
+     * @param filePath - The file path.
+     * @param offset   - The offset of the first byte of plaintext.
+     * @param length   - The number of bytes.
+     * @return Returns the input stream of the byte range.
+     * @throws FileSystemException
+     */
+    @Override
+    public InputStream read(String filePath, long offset, long length) throws FileSystemException {
+        Header header;
+        try (InputStream in = delegate.read(filePath, 0, HEADER_LENGTH)) {
+            header = readHeader(in);
+        } catch (IOException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_ENCRYPTION_EXCEPTION, e);
+            return null;
+        }
+        return readRange(filePath, header, offset, length);
+    }
+
+    /**
+     * This method can be used to open the seekable channel over the plaintext of file, the blocks read by the channel
+     * decrypt only their chunks.
+     *
+     * @param filePath - The file path.
+     * @return Returns the read only channel.
+     * @throws FileSystemException
+     */
+    @Override
+    public SeekableByteChannel openChannel(String filePath) throws FileSystemException {
+        Header header = null;
+        long size = 0;
+        try (SeekableByteChannel channel = delegate.openChannel(filePath)) {
+            ByteBuffer bytes = ByteBuffer.allocate(HEADER_LENGTH);
+            while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+                // read the whole header
+            }
+            header = parseHeader(bytes.array(), bytes.position());
+            size = header.plaintextSize(channel.size());
+        } catch (IOException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_ENCRYPTION_EXCEPTION, e);
+        }
+        Header fileHeader = header;
+        return RangedReadChannel.of(new FileSystemDecorator(this) {
+            @Override
+            public InputStream read(String path, long offset, long length) throws FileSystemException {
+                return readRange(path, fileHeader, offset, length);
+            }
+        }, filePath, size);
+    }
+
+    @Override
+    public void uploadFile(InputStream inputStream, String fileName) throws FileSystemException {
+        EncryptingOutputStream out = new EncryptingOutputStream(delegate.openOutputStream(fileName));
+        try {
+            BufferPool.getDefault().copy(inputStream, out);
+            out.close();
+        } catch (IOException e) {
+            out.abort();
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_ENCRYPTION_EXCEPTION, e);
+        }
+    }
+
+    /**
+     * This method can be used to get the output stream encrypting the file while it is written.
+     *
+     * @param fileName - The file name to save on file system.
+     * @return Returns the output stream to write the file.
+     * @throws FileSystemException
+     */
+    @Override
+    public AbortableOutputStream openOutputStream(String fileName) throws FileSystemException {
+        return new EncryptingOutputStream(delegate.openOutputStream(fileName));
+    }
+
+    @Override
+    public void downloadFile(String source, String destination) throws FileSystemException {
+        try (InputStream in = read(source)) {
+            Files.copy(in, Paths.get(destination), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_ENCRYPTION_EXCEPTION, e);
+        }
+    }
+
+    /**
+     * Stop the encryption threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Read the chunks of the plaintext range, the range of encrypted file is extended by one byte after its last
+     * chunk to tell whether the last chunk is the last of file.
+     */
+    private InputStream readRange(String filePath, Header header, long offset, long length)
+            throws FileSystemException {
+        if (length <= 0) {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+        // the range up to the end of file is read with the length clamped so the arithmetic can not overflow
+        length = Math.min(length, Long.MAX_VALUE - offset);
+        long first = offset / header.chunkSize;
+        long last = (offset + length - 1) / header.chunkSize;
+        long frame = header.chunkSize + TAG_LENGTH;
+        long chunks = last - first + 1;
+        long rangeLength = chunks > (Long.MAX_VALUE - 1) / frame ? Long.MAX_VALUE : chunks * frame + 1;
+        InputStream in = delegate.read(filePath, HEADER_LENGTH + first * frame, rangeLength);
+        return new DecryptingInputStream(in, header, first, chunks, offset - first * header.chunkSize, length);
+    }
+
+    private ByteBuffer encrypt(Header header, long index, boolean last, ByteBuffer chunk) throws IOException {
+        try {
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, header.nonce(index)));
+            cipher.updateAAD(header.aad(index, last));
+            int length = cipher.doFinal(chunk.array(), 0, chunk.position(), chunk.array(), 0);
+            chunk.clear();
+            chunk.limit(length);
+            return chunk;
+        } catch (GeneralSecurityException e) {
+            BufferPool.getDefault().release(chunk);
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private ByteBuffer decrypt(Header header, long index, boolean last, ByteBuffer chunk, int length)
+            throws IOException {
+        try {
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, header.nonce(index)));
+            cipher.updateAAD(header.aad(index, last));
+            int plaintext = cipher.doFinal(chunk.array(), 0, length, chunk.array(), 0);
+            chunk.clear();
+            chunk.limit(plaintext);
+            return chunk;
+        } catch (GeneralSecurityException e) {
+            BufferPool.getDefault().release(chunk);
+            throw new IOException(String.format("The chunk: %d failed to decrypt.", index), e);
+        }
+    }
+
+    private static Header readHeader(InputStream in) throws IOException {
+        byte[] bytes = new byte[HEADER_LENGTH];
+        return parseHeader(bytes, readFully(in, bytes, 0, HEADER_LENGTH));
+    }
+
+    private static Header parseHeader(byte[] bytes, int length) throws IOException {
+        ByteBuffer header = ByteBuffer.wrap(bytes);
+        if (length < HEADER_LENGTH || header.getInt() != MAGIC) {
+            throw new IOException("The file is not encrypted by the encrypting file system.");
+        }
+        int chunkSize = header.getInt();
+        if (chunkSize <= 0) {
+            throw new IOException("The encrypted file header is corrupted.");
+        }
+        return new Header(bytes, chunkSize);
+    }
+
+    private static int readFully(InputStream in, byte[] bytes, int offset, int length) throws IOException {
+        int total = offset;
+        int read;
+        while (total < length && (read = in.read(bytes, total, length - total)) > 0) {
+            total += read;
+        }
+        return total;
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            log.warning(String.format("The stream could not be closed. Cause: %s", e));
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ExceptionConstants.STR_INTERRUPTED_EXCEPTION);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static void releaseAll(Deque<Future<ByteBuffer>> futures) {
+        for (Future<ByteBuffer> future : futures) {
+            if (!future.cancel(true) && future.isDone()) {
+                try {
+                    BufferPool.getDefault().release(future.get());
+                } catch (InterruptedException | ExecutionException e) {
+                    // the failed chunk released its buffer
+                }
+            }
+        }
+        futures.clear();
+    }
+
+    /**
+     * The header of encrypted file, the nonce and authenticated data of every chunk are derived from it.
+     */
+    private static final class Header {
+        private final byte[] bytes;
+        private final int chunkSize;
+
+        Header(byte[] bytes, int chunkSize) {
+            this.bytes = bytes;
+            this.chunkSize = chunkSize;
+        }
+
+        byte[] nonce(long index) {
+            byte[] nonce = new byte[NONCE_LENGTH];
+            System.arraycopy(bytes, 8, nonce, 0, NONCE_LENGTH);
+            for (int i = 0; i < 8; i++) {
+                nonce[NONCE_LENGTH - 1 - i] ^= (byte) (index >>> (8 * i));
+            }
+            return nonce;
+        }
+
+        byte[] aad(long index, boolean last) {
+            return ByteBuffer.allocate(HEADER_LENGTH + 9).put(bytes).putLong(index).put((byte) (last ? 1 : 0))
+                    .array();
+        }
+
+        long plaintextSize(long encryptedSize) throws IOException {
+            long body = encryptedSize - HEADER_LENGTH;
+            long frame = chunkSize + TAG_LENGTH;
+            long chunks = Math.max(1, (body + frame - 1) / frame);
+            if (body < TAG_LENGTH || body - (chunks - 1) * frame < TAG_LENGTH) {
+                throw new IOException("The encrypted file is truncated.");
+            }
+            return body - chunks * TAG_LENGTH;
+        }
+    }
+
+    /**
+     * The output stream encrypting the chunks in parallel and writing them in order. The full chunk is encrypted only
+     * once more bytes are written, as the last chunk is not known before the stream is closed.
+     */
+    private final class EncryptingOutputStream extends AbortableOutputStream {
+        private final AbortableOutputStream out;
+        private final Header header;
+        private final Deque<Future<ByteBuffer>> pending = new ArrayDeque<>();
+        private ByteBuffer buffer;
+        private long index;
+        private boolean closed;
+
+        EncryptingOutputStream(AbortableOutputStream out) throws FileSystemException {
+            this.out = out;
+            byte[] bytes = new byte[HEADER_LENGTH];
+            ByteBuffer.wrap(bytes).putInt(MAGIC).putInt(chunkSize);
+            byte[] nonce = new byte[NONCE_LENGTH];
+            random.nextBytes(nonce);
+            System.arraycopy(nonce, 0, bytes, 8, NONCE_LENGTH);
+            this.header = new Header(bytes, chunkSize);
+            try {
+                out.write(bytes);
+            } catch (IOException e) {
+                abort();
+                ErrorUtil.fileSystemException(ExceptionConstants.STR_ENCRYPTION_EXCEPTION, e);
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("The stream is closed.");
+            }
+            while (len > 0) {
+                if (buffer != null && !buffer.hasRemaining()) {
+                    submit(false);
+                }
+                if (buffer == null) {
+                    buffer = newBuffer();
+                }
+                int count = Math.min(len, buffer.remaining());
+                buffer.put(b, off, count);
+                off += count;
+                len -= count;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            try {
+                if (buffer == null) {
+                    buffer = newBuffer();
+                }
+                submit(true);
+                while (!pending.isEmpty()) {
+                    writeNext();
+                }
+                closed = true;
+                out.close();
+            } catch (IOException | RuntimeException e) {
+                abort();
+                throw e;
+            }
+        }
+
+        @Override
+        public void abort() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            BufferPool.getDefault().release(buffer);
+            buffer = null;
+            releaseAll(pending);
+            try {
+                out.abort();
+            } catch (IOException e) {
+                log.warning(String.format("The encrypted write could not be aborted. Cause: %s", e));
+            }
+        }
+
+        private ByteBuffer newBuffer() {
+            ByteBuffer chunk = BufferPool.getDefault().acquire(chunkSize + TAG_LENGTH);
+            chunk.limit(chunkSize);
+            return chunk;
+        }
+
+        private void submit(boolean last) throws IOException {
+            ByteBuffer chunk = buffer;
+            long chunkIndex = index++;
+            buffer = null;
+            pending.add(executor.submit(() -> encrypt(header, chunkIndex, last, chunk)));
+            while (pending.size() >= window) {
+                writeNext();
+            }
+        }
+
+        private void writeNext() throws IOException {
+            ByteBuffer chunk = await(pending.poll());
+            try {
+                out.write(chunk.array(), 0, chunk.limit());
+            } finally {
+                BufferPool.getDefault().release(chunk);
+            }
+        }
+    }
+
+    /**
+     * The input stream reading the encrypted chunks ahead and decrypting them in parallel. The chunk is the last of
+     * file when the encrypted stream ends right after it.
+     */
+    private final class DecryptingInputStream extends InputStream {
+        private final InputStream in;
+        private final Header header;
+        private final long chunks;
+        private final Deque<Future<ByteBuffer>> ahead = new ArrayDeque<>();
+        private long next;
+        private long read;
+        private long skip;
+        private long remaining;
+        private int peeked = -1;
+        private boolean end;
+        private ByteBuffer current;
+
+        DecryptingInputStream(InputStream in, Header header, long first, long chunks, long skip, long length) {
+            this.in = in;
+            this.header = header;
+            this.next = first;
+            this.chunks = chunks;
+            this.skip = skip;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (current == null || !current.hasRemaining()) {
+                if (remaining <= 0) {
+                    return -1;
+                }
+                BufferPool.getDefault().release(current);
+                current = null;
+                fill();
+                if (ahead.isEmpty()) {
+                    return -1;
+                }
+                current = await(ahead.poll());
+                if (skip > 0) {
+                    int skipped = (int) Math.min(skip, current.limit());
+                    current.position(skipped);
+                    skip -= skipped;
+                }
+            }
+            int count = (int) Math.min(Math.min(len, current.remaining()), remaining);
+            current.get(b, off, count);
+            remaining -= count;
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            BufferPool.getDefault().release(current);
+            current = null;
+            releaseAll(ahead);
+            in.close();
+        }
+
+        /**
+         * Read the encrypted chunks up to the window and submit their decryption.
+         */
+        private void fill() throws IOException {
+            int frame = header.chunkSize + TAG_LENGTH;
+            while (ahead.size() < window && !end && read < chunks) {
+                ByteBuffer chunk = BufferPool.getDefault().acquire(frame);
+                byte[] bytes = chunk.array();
+                int offset = 0;
+                if (peeked >= 0) {
+                    bytes[offset++] = (byte) peeked;
+                    peeked = -1;
+                }
+                int length = readFully(in, bytes, offset, frame);
+                boolean last = length < frame;
+                if (!last) {
+                    peeked = in.read();
+                    last = peeked < 0;
+                }
+                if (length < TAG_LENGTH) {
+                    BufferPool.getDefault().release(chunk);
+                    throw new IOException("The encrypted file is truncated.");
+                }
+                end = last;
+                long index = next++;
+                read++;
+                boolean lastChunk = last;
+                ahead.add(executor.submit(() -> decrypt(header, index, lastChunk, chunk, length)));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,180 @@
+package com.github.filesystem.decorator;
+
+import com.github.filesystem.FileSystem;
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.io.AbortableOutputStream;
+import com.github.filesystem.model.Configuration;
+import com.github.filesystem.model.FileInfo;
+
+import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * The file system delegating all the operations to the decorated file system, the decorators override only the
+ * operations they change. The paged listing and the search of files are delegated too, so the decorated file system
+ * keeps its own implementation of them, the decorators changing the listing override them as well.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public abstract class FileSystemDecorator extends FileSystem {
+
+    protected final FileSystem delegate;
+
+    protected FileSystemDecorator(FileSystem delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * @return Returns the decorated file system.
+     */
+    public FileSystem getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public FileSystem configure(Configuration config) throws FileSystemException {
+        delegate.configure(config);
+        return this;
+    }
+
+    @Override
+    public InputStream read(String filePath) throws FileSystemException {
+        return delegate.read(filePath);
+    }
+
+    @Override
+    public InputStream read(String filePath, long offset, long length) throws FileSystemException {
+        return delegate.read(filePath, offset, length);
+    }
+
+    @Override
+    public SeekableByteChannel openChannel(String filePath) throws FileSystemException {
+        return delegate.openChannel(filePath);
+    }
+
+    @Override
+    public void uploadFile(InputStream inputStream, String fileName) throws FileSystemException {
+        delegate.uploadFile(inputStream, fileName);
+    }
+
+    @Override
+    public AbortableOutputStream openOutputStream(String fileName) throws FileSystemException {
+        return delegate.openOutputStream(fileName);
+    }
+
+    @Override
+    public void downloadFile(String source, String destination) throws FileSystemException {
+        delegate.downloadFile(source, destination);
+    }
+
+    @Override
+    public void deleteFile(String fileKey) throws FileSystemException {
+        delegate.deleteFile(fileKey);
+    }
+
+    @Override
+    public void createFolder(String folderName) throws FileSystemException {
+        delegate.createFolder(folderName);
+    }
+
+    @Override
+    public void copyFile(String sourceFilePath, String targetFilePath) throws FileSystemException {
+        delegate.copyFile(sourceFilePath, targetFilePath);
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return delegate.getConfiguration();
+    }
+
+    @Override
+    public List<String> getListOfFiles(String directory) throws FileSystemException {
+        return delegate.getListOfFiles(directory);
+    }
+
+    @Override
+    public List<FileInfo> getListOfFileInfo(String directory) throws FileSystemException {
+        return delegate.getListOfFileInfo(directory);
+    }
+
+    @Override
+    public Iterator<FileInfo> iterateFileInfo(String directory) throws FileSystemException {
+        return delegate.iterateFileInfo(directory);
+    }
+
+    @Override
+    public List<FileInfo> findFiles(String glob, Predicate<FileInfo> filter, int limit) throws FileSystemException {
+        return delegate.findFiles(glob, filter, limit);
+    }
+
+    /**
+     * This method can be used to tell whether the listed file is the folder or lies inside it, the decorators use it
+     * to hide their own storage folders from the listings.
+     *
+     * @param directory - The listed directory.
+     * @param path      - The listed path or the bare name of the file in the directory.
+     * @param folder    - The folder relative to the root of the file system.
+     * @return Returns true when the file is the folder or lies inside it.
+     */
+    protected static boolean isInFolder(String directory, String path, String folder) {
+        String parent = relativePath(directory);
+        String file = relativePath(path);
+        if (!parent.isEmpty() && !file.startsWith(parent + "/")) {
+            file = parent + "/" + file;
+        }
+        String hidden = relativePath(folder);
+        return file.equals(hidden) || file.startsWith(hidden + "/");
+    }
+
+    /**
+     * This method can be used to skip the files not accepted by the filter while iterating.
+     *
+     * @param files  - The iterator of the files.
+     * @param filter - The filter of the files to keep.
+     * @return Returns the iterator of the accepted files.
+     */
+    protected static Iterator<FileInfo> filter(Iterator<FileInfo> files, Predicate<FileInfo> filter) {
+        return new Iterator<FileInfo>() {
+            private FileInfo next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && files.hasNext()) {
+                    FileInfo file = files.next();
+                    if (filter.test(file)) {
+                        next = file;
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public FileInfo next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                FileInfo file = next;
+                next = null;
+                return file;
+            }
+        };
+    }
+
+    private static String relativePath(String path) {
+        String relative = path;
+        while (relative.startsWith("./")) {
+            relative = relative.substring(2);
+        }
+        if (".".equals(relative)) {
+            return "";
+        }
+        return relative.endsWith("/") ? relative.substring(0, relative.length() - 1) : relative;
+    }
+
+}
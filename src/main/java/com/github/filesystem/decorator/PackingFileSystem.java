@@ -0,0 +1,672 @@
+package com.github.filesystem.decorator;
+
+import com.github.filesystem.FileSystem;
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.io.AbortableOutputStream;
+import com.github.filesystem.io.BufferPool;
+import com.github.filesystem.io.RangedReadChannel;
+import com.github.filesystem.model.FileInfo;
+import com.github.filesystem.util.AppConstants;
+import com.github.filesystem.util.ErrorUtil;
+import com.github.filesystem.util.ExceptionConstants;
+import com.github.filesystem.util.ThreadUtil;
+
+import java.io.*;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+/**
+ * The packing file system. The small files are appended into large pack objects, so writing many tiny files costs
+ * one request per pack instead of one request per file. Every pack is stored with its index object listing the
+ * offset and length of the files in the pack, the reads resolve the file through the cached index and fetch only its
+ * byte range from the pack. The files larger than the small file size are stored as they are.
+ * <p>
+ * The open pack is stored when it reaches the pack size, on every flush interval and on {@link #flush()}, the packed
+ * files are durable once their pack is stored. The files of the open pack are read from memory until then.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public class PackingFileSystem extends FileSystemDecorator implements Closeable {
+
+    public static final Logger log = Logger.getLogger(PackingFileSystem.class.getName());
+
+    /**
+     * The default directory of the packs.
+     */
+    public static final String DEFAULT_PACK_DIRECTORY = ".packs";
+
+    /**
+     * The default size in bytes of the largest file which is packed.
+     */
+    public static final int DEFAULT_SMALL_FILE_SIZE = 64 * 1024;
+
+    /**
+     * The default size in bytes of the pack.
+     */
+    public static final int DEFAULT_PACK_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The default interval in milliseconds to store the open pack.
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL = 5000;
+
+    private static final String PACK_SUFFIX = ".pack";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final long TOMBSTONE = -1;
+
+    private final String packDirectory;
+    private final int smallFileSize;
+    private final int packSize;
+    private final Map<String, Entry> index = new ConcurrentHashMap<>();
+    private final Deque<Pack> sealed = new ArrayDeque<>();
+    private final Object storeLock = new Object();
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean indexLoaded;
+    private boolean packDirectoryCreated;
+    private Pack open;
+
+    /**
+     * @param delegate - The file system to store the packs and large files.
+     */
+    public PackingFileSystem(FileSystem delegate) {
+        this(delegate, DEFAULT_PACK_DIRECTORY, DEFAULT_SMALL_FILE_SIZE, DEFAULT_PACK_SIZE, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * @param delegate      - The file system to store the packs and large files.
+     * @param packDirectory - The directory of the packs.
+     * @param smallFileSize - The size in bytes of the largest file which is packed.
+     * @param packSize      - The size in bytes of the pack.
+     * @param flushInterval - The interval in milliseconds to store the open pack, zero to store on flush only.
+     */
+    public PackingFileSystem(FileSystem delegate, String packDirectory, int smallFileSize, int packSize,
+                             long flushInterval) {
+        super(delegate);
+        this.packDirectory = packDirectory;
+        this.smallFileSize = smallFileSize;
+        this.packSize = Math.max(packSize, smallFileSize);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(ThreadUtil.daemonThreadFactory("pack-flush"));
+        if (flushInterval > 0) {
+            scheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * This method can be used to upload file input stream to file system. The small file is appended to the open
+     * pack, the larger file is uploaded to the decorated file system.
+     *
+     * @param inputStream - The file input stream.
+     * @param fileName    - The file name to save on file system.
+     * @throws FileSystemException
+     */
+    @Override
+    public void uploadFile(InputStream inputStream, String fileName) throws FileSystemException {
+        PackingOutputStream out = new PackingOutputStream(fileName);
+        try {
+            BufferPool.getDefault().copy(inputStream, out);
+            out.close();
+        } catch (IOException e) {
+            out.abort();
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_IO_EXCEPTION, e);
+        }
+    }
+
+    /**
+     * This method can be used to get the output stream to write the file, the file is packed when it is not larger
+     * than the small file size.
+     *
+     * @param fileName - The file name to save on file system.
+     * @return Returns the output stream to write the file.
+     * @throws FileSystemException
+     */
+    @Override
+    public AbortableOutputStream openOutputStream(String fileName) throws FileSystemException {
+        return new PackingOutputStream(fileName);
+    }
+
+    @Override
+    public InputStream read(String filePath) throws FileSystemException {
+        Entry entry = lookup(filePath);
+        return entry == null ? delegate.read(filePath) : entry.read(0, entry.length);
+    }
+
+    @Override
+    public InputStream read(String filePath, long offset, long length) throws FileSystemException {
+        Entry entry = lookup(filePath);
+        if (entry == null) {
+            return delegate.read(filePath, offset, length);
+        }
+        long start = Math.min(Math.max(0, offset), entry.length);
+        return entry.read(start, Math.min(length, entry.length - start));
+    }
+
+    @Override
+    public SeekableByteChannel openChannel(String filePath) throws FileSystemException {
+        Entry entry = lookup(filePath);
+        return entry == null ? delegate.openChannel(filePath) : RangedReadChannel.of(this, filePath, entry.length);
+    }
+
+    @Override
+    public void downloadFile(String source, String destination) throws FileSystemException {
+        Entry entry = lookup(source);
+        if (entry == null) {
+            delegate.downloadFile(source, destination);
+            return;
+        }
+        try (InputStream in = entry.read(0, entry.length)) {
+            Files.copy(in, Paths.get(destination), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_IO_EXCEPTION, e);
+        }
+    }
+
+    /**
+     * This method can be used to delete the file from file system. The packed file is removed from index and the
+     * stored file of the same name it shadowed is deleted too, so the older version does not show through.
+     *
+     * @param fileKey - The file name to delete.
+     * @throws FileSystemException
+     */
+    @Override
+    public void deleteFile(String fileKey) throws FileSystemException {
+        if (lookup(fileKey) == null) {
+            delegate.deleteFile(fileKey);
+            return;
+        }
+        unpack(fileKey);
+        try {
+            delegate.deleteFile(fileKey);
+        } catch (FileSystemException e) {
+            log.fine(String.format("The packed file: %s is not stored on file system. Cause: %s", fileKey,
+                    e.getMessage()));
+        }
+    }
+
+    @Override
+    public void copyFile(String sourceFilePath, String targetFilePath) throws FileSystemException {
+        Entry entry = lookup(sourceFilePath);
+        if (entry == null) {
+            delegate.copyFile(sourceFilePath, targetFilePath);
+            unpack(targetFilePath);
+            return;
+        }
+        uploadFile(entry.read(0, entry.length), targetFilePath);
+    }
+
+    /**
+     * This method can be used to get the files in the directory, the packed files of the directory are listed with
+     * the stored files. The files are listed by their paths, also when the decorated file system lists the bare
+     * names, and the pack directory is hidden.
+     *
+     * @param directory - The directory to list.
+     * @return Returns the list of files.
+     * @throws FileSystemException
+     */
+    @Override
+    public List<String> getListOfFiles(String directory) throws FileSystemException {
+        String parent = stripSlash(directory);
+        String prefix = parent.isEmpty() || ".".equals(parent) ? "" : parent + AppConstants.CHAR_FS;
+        Set<String> files = new LinkedHashSet<>();
+        for (String file : delegate.getListOfFiles(directory)) {
+            if (!isInFolder(directory, file, packDirectory)) {
+                files.add(file.startsWith(prefix) ? file : prefix + file);
+            }
+        }
+        // the stored file shadowed by the packed one is listed once
+        files.addAll(packedFiles(directory).keySet());
+        return new ArrayList<>(files);
+    }
+
+    /**
+     * This method can be used to get the information of the files in the directory, the packed files of the
+     * directory are listed with the stored files and the pack directory is hidden.
+     *
+     * @param directory - The directory to list.
+     * @return Returns the list of file information.
+     * @throws FileSystemException
+     */
+    @Override
+    public List<FileInfo> getListOfFileInfo(String directory) throws FileSystemException {
+        Map<String, FileInfo> files = new LinkedHashMap<>();
+        for (FileInfo file : delegate.getListOfFileInfo(directory)) {
+            if (!isInFolder(directory, file.getPath(), packDirectory)) {
+                files.put(file.getPath(), file);
+            }
+        }
+        for (Map.Entry<String, Entry> packed : packedFiles(directory).entrySet()) {
+            String path = packed.getKey();
+            Entry entry = packed.getValue();
+            files.put(path, new FileInfo(path, entry.length, entry.lastModified, null, false));
+        }
+        return new ArrayList<>(files.values());
+    }
+
+    @Override
+    public Iterator<FileInfo> iterateFileInfo(String directory) throws FileSystemException {
+        return getListOfFileInfo(directory).iterator();
+    }
+
+    /**
+     * This method can be used to find the files matching the glob pattern, the directories are walked through the
+     * listing merged with the packed files.
+     *
+     * @param glob   - The glob pattern matched against the file paths.
+     * @param filter - The optional predicate the matching files must satisfy.
+     * @param limit  - The maximum number of files to return, 0 for no limit.
+     * @return Returns the list of file information {@link FileInfo} of the matching files.
+     * @throws FileSystemException
+     */
+    @Override
+    public List<FileInfo> findFiles(String glob, Predicate<FileInfo> filter, int limit) throws FileSystemException {
+        return findFilesByListing(glob, filter, limit);
+    }
+
+    /**
+     * This method can be used to store the open pack, the packed files written before are durable once it returns.
+     *
+     * @throws FileSystemException
+     */
+    public void flush() throws FileSystemException {
+        synchronized (this) {
+            if (open != null) {
+                sealed.add(open);
+                open = null;
+            }
+        }
+        storeSealed();
+    }
+
+    /**
+     * This method can be used to reload the index of packs, so the files packed by the other writers are visible.
+     *
+     * @throws FileSystemException
+     */
+    public void refreshIndex() throws FileSystemException {
+        indexLoaded = false;
+        loadIndex();
+    }
+
+    /**
+     * Store the open pack and stop the flush thread.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        try {
+            flush();
+        } catch (FileSystemException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (FileSystemException e) {
+            log.warning(String.format("The open pack could not be stored, it is retried on next flush. Cause: %s",
+                    e.getMessage()));
+        }
+    }
+
+    /**
+     * Get the packed files directly in the directory.
+     */
+    private Map<String, Entry> packedFiles(String directory) throws FileSystemException {
+        loadIndex();
+        Map<String, Entry> files = new TreeMap<>();
+        String parent = stripSlash(directory);
+        for (Map.Entry<String, Entry> packed : index.entrySet()) {
+            String path = packed.getKey();
+            int slash = path.lastIndexOf(AppConstants.CHAR_FS.toString());
+            if ((slash < 0 ? "" : path.substring(0, slash)).equals(parent)) {
+                files.put(path, packed.getValue());
+            }
+        }
+        return files;
+    }
+
+    private Entry lookup(String filePath) throws FileSystemException {
+        loadIndex();
+        return index.get(filePath);
+    }
+
+    /**
+     * Append the file to the open pack, the pack reaching the pack size is stored.
+     */
+    private void pack(String fileName, byte[] data) throws FileSystemException {
+        loadIndex();
+        boolean full;
+        synchronized (this) {
+            if (open == null) {
+                open = new Pack(packDirectory);
+            }
+            index.put(fileName, open.append(fileName, data));
+            full = open.size >= packSize;
+            if (full) {
+                sealed.add(open);
+                open = null;
+            }
+        }
+        if (full) {
+            storeSealed();
+        }
+    }
+
+    /**
+     * Remove the file from index, the removal is recorded in the open pack so it survives the reload of index.
+     */
+    private void unpack(String fileName) throws FileSystemException {
+        loadIndex();
+        synchronized (this) {
+            if (index.remove(fileName) == null) {
+                return;
+            }
+            if (open == null) {
+                open = new Pack(packDirectory);
+            }
+            open.remove(fileName);
+        }
+    }
+
+    /**
+     * Store the sealed packs in order, every pack is stored before its index so the index refers only to the stored
+     * packs. The pack failed to store stays in memory and is retried on next flush.
+     */
+    private void storeSealed() throws FileSystemException {
+        synchronized (storeLock) {
+            Pack pack;
+            while ((pack = peekSealed()) != null) {
+                if (!packDirectoryCreated) {
+                    try {
+                        delegate.createFolder(packDirectory);
+                    } catch (FileSystemException e) {
+                        log.fine(String.format("The folder: %s is not created. Cause: %s", packDirectory,
+                                e.getMessage()));
+                    }
+                    packDirectoryCreated = true;
+                }
+                byte[] data = pack.data();
+                if (data.length > 0) {
+                    delegate.uploadFile(new ByteArrayInputStream(data), pack.key + PACK_SUFFIX);
+                }
+                delegate.uploadFile(new ByteArrayInputStream(pack.indexText().getBytes(StandardCharsets.UTF_8)),
+                        pack.key + INDEX_SUFFIX);
+                pack.stored();
+                synchronized (this) {
+                    sealed.poll();
+                }
+                log.info(String.format("The pack: %s is stored with %d files.", pack.key, pack.count));
+            }
+        }
+    }
+
+    private synchronized Pack peekSealed() {
+        return sealed.peek();
+    }
+
+    /**
+     * Load the indexes of the stored packs once, the later packs override the earlier ones.
+     */
+    private void loadIndex() throws FileSystemException {
+        if (indexLoaded) {
+            return;
+        }
+        synchronized (storeLock) {
+            if (indexLoaded) {
+                return;
+            }
+            List<FileInfo> files;
+            try {
+                files = delegate.getListOfFileInfo(packDirectory + AppConstants.CHAR_FS);
+            } catch (FileSystemException e) {
+                log.fine(String.format("The pack directory: %s is not listed. Cause: %s", packDirectory,
+                        e.getMessage()));
+                files = Collections.emptyList();
+            }
+            List<FileInfo> indexes = new ArrayList<>();
+            for (FileInfo file : files) {
+                if (file.getPath().endsWith(INDEX_SUFFIX)) {
+                    indexes.add(file);
+                }
+            }
+            indexes.sort(Comparator.comparing(file -> file.getPath().substring(file.getPath().lastIndexOf('/') + 1)));
+            Map<String, Entry> loaded = new HashMap<>();
+            for (FileInfo file : indexes) {
+                String path = file.getPath();
+                String key = path.substring(0, path.length() - INDEX_SUFFIX.length());
+                readIndex(file, key, loaded);
+            }
+            synchronized (this) {
+                // the files packed or removed in this process meanwhile are newer than the stored indexes
+                List<Pack> unstored = new ArrayList<>(sealed);
+                if (open != null) {
+                    unstored.add(open);
+                }
+                for (Pack pack : unstored) {
+                    pack.removed().forEach(loaded::remove);
+                }
+                for (Map.Entry<String, Entry> entry : index.entrySet()) {
+                    if (entry.getValue().pack != null) {
+                        loaded.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                index.clear();
+                index.putAll(loaded);
+            }
+            indexLoaded = true;
+        }
+    }
+
+    private void readIndex(FileInfo file, String key, Map<String, Entry> loaded) throws FileSystemException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(delegate.read(file.getPath()),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                int first = line.indexOf(' ');
+                int second = line.indexOf(' ', first + 1);
+                long offset = Long.parseLong(line.substring(0, first));
+                int length = Integer.parseInt(line.substring(first + 1, second));
+                String fileName = line.substring(second + 1);
+                if (offset == TOMBSTONE) {
+                    loaded.remove(fileName);
+                } else {
+                    loaded.put(fileName, new Entry(null, key + PACK_SUFFIX, offset, length, file.getLastModified()));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_PARSING_EXCEPTION, e);
+        }
+    }
+
+    private static String stripSlash(String directory) {
+        return directory.endsWith(AppConstants.CHAR_FS.toString())
+                ? directory.substring(0, directory.length() - 1) : directory;
+    }
+
+    /**
+     * The location of the packed file, the file of the pack not yet stored is read from the pack in memory.
+     */
+    private final class Entry {
+        private final Pack pack;
+        private final String packKey;
+        private final long offset;
+        private final int length;
+        private final long lastModified;
+
+        Entry(Pack pack, String packKey, long offset, int length, long lastModified) {
+            this.pack = pack;
+            this.packKey = packKey;
+            this.offset = offset;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+
+        InputStream read(long start, long count) throws FileSystemException {
+            if (count <= 0) {
+                return new ByteArrayInputStream(new byte[0]);
+            }
+            byte[] data = pack == null ? null : pack.read(offset + start, (int) count);
+            if (data != null) {
+                return new ByteArrayInputStream(data);
+            }
+            return delegate.read(packKey, offset + start, count);
+        }
+    }
+
+    /**
+     * The pack of files with its index lines, the data is kept in memory until the pack is stored.
+     */
+    private final class Pack {
+        private final String key;
+        private final List<String> lines = new ArrayList<>();
+        private byte[] data = new byte[Math.min(packSize, 1024 * 1024)];
+        private int size;
+        private int count;
+
+        Pack(String directory) {
+            this.key = String.format("%s/pack-%013d-%s", directory, System.currentTimeMillis(), UUID.randomUUID());
+        }
+
+        synchronized Entry append(String fileName, byte[] file) {
+            if (size + file.length > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, size + file.length));
+            }
+            System.arraycopy(file, 0, data, size, file.length);
+            Entry entry = new Entry(this, key + PACK_SUFFIX, size, file.length, System.currentTimeMillis());
+            lines.add(size + " " + file.length + " " + fileName);
+            size += file.length;
+            count++;
+            return entry;
+        }
+
+        synchronized void remove(String fileName) {
+            lines.add(TOMBSTONE + " 0 " + fileName);
+        }
+
+        synchronized List<String> removed() {
+            List<String> removed = new ArrayList<>();
+            for (String line : lines) {
+                if (line.startsWith(TOMBSTONE + " ")) {
+                    removed.add(line.substring(line.indexOf(' ', line.indexOf(' ') + 1) + 1));
+                }
+            }
+            return removed;
+        }
+
+        synchronized byte[] read(long offset, int length) {
+            return data == null ? null : Arrays.copyOfRange(data, (int) offset, (int) offset + length);
+        }
+
+        synchronized byte[] data() {
+            return Arrays.copyOf(data, size);
+        }
+
+        synchronized String indexText() {
+            StringBuilder text = new StringBuilder();
+            for (String line : lines) {
+                text.append(line).append('\n');
+            }
+            return text.toString();
+        }
+
+        synchronized void stored() {
+            data = null;
+        }
+    }
+
+    /**
+     * The output stream collecting the file up to the small file size, the larger file is streamed to the decorated
+     * file system.
+     */
+    private final class PackingOutputStream extends AbortableOutputStream {
+        private final String fileName;
+        private ByteArrayOutputStream small = new ByteArrayOutputStream();
+        private AbortableOutputStream large;
+        private boolean closed;
+
+        PackingOutputStream(String fileName) throws FileSystemException {
+            if (fileName.indexOf('\n') >= 0) {
+                // the name can not be written to the index line, the file is stored as it is
+                this.large = delegate.openOutputStream(fileName);
+            }
+            this.fileName = fileName;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("The stream is closed.");
+            }
+            if (large == null && small.size() + len > smallFileSize) {
+                try {
+                    large = delegate.openOutputStream(fileName);
+                } catch (FileSystemException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+                small.writeTo(large);
+                small = null;
+            }
+            if (large != null) {
+                large.write(b, off, len);
+            } else {
+                small.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                if (large != null) {
+                    large.close();
+                    unpack(fileName);
+                } else {
+                    pack(fileName, small.toByteArray());
+                }
+            } catch (FileSystemException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void abort() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (large != null) {
+                try {
+                    large.abort();
+                } catch (IOException e) {
+                    log.warning(String.format("The file: %s could not be aborted. Cause: %s", fileName, e));
+                }
+            }
+        }
+    }
+
+}
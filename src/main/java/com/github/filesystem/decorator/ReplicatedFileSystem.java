@@ -0,0 +1,531 @@
+package com.github.filesystem.decorator;
+
+import com.github.filesystem.FileSystem;
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.io.AbortableOutputStream;
+import com.github.filesystem.io.BufferPool;
+import com.github.filesystem.model.FileInfo;
+import com.github.filesystem.util.ErrorUtil;
+import com.github.filesystem.util.ExceptionConstants;
+import com.github.filesystem.util.ThreadUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+/**
+ * The replicated file system. Every file is written to all the target file systems in parallel from a single read of
+ * the source: the written bytes are cut into pooled chunks shared by the targets, and every target writes them on its
+ * own thread from a bounded queue, so the memory is bounded by the queue depth and the write takes as long as the
+ * slowest target instead of the sum of targets.
+ * <p>
+ * The write succeeds when the write quorum of targets succeed. The targets commit their files only after all of them
+ * received the whole file and the quorum is reached, otherwise every target aborts its write. The write fails early
+ * once too many targets failed to reach the quorum. The deletes, folders and copies are applied to all the targets
+ * with the same quorum, the reads and listings are served by the first target that succeeds, in the given order.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public class ReplicatedFileSystem extends FileSystemDecorator implements Closeable {
+
+    public static final Logger log = Logger.getLogger(ReplicatedFileSystem.class.getName());
+
+    /**
+     * The write quorum of all the targets.
+     */
+    public static final int ALL = Integer.MAX_VALUE;
+
+    /**
+     * The write quorum of any one target.
+     */
+    public static final int ANY = 1;
+
+    /**
+     * The default size in bytes of the chunks shared by the targets.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * The default number of chunks queued per target before the writer waits for the slowest target.
+     */
+    public static final int DEFAULT_QUEUE_DEPTH = 4;
+
+    private static final Chunk END = new Chunk(null, 0);
+    private static final Chunk ABORT = new Chunk(null, 0);
+
+    private final List<FileSystem> targets;
+    private final int writeQuorum;
+    private final int chunkSize;
+    private final int queueDepth;
+    private final ExecutorService executor = Executors.newCachedThreadPool(
+            ThreadUtil.daemonThreadFactory("replicated-write"));
+
+    /**
+     * @param targets - The file systems to replicate to, the first one serves the reads first.
+     */
+    public ReplicatedFileSystem(List<FileSystem> targets) {
+        this(targets, ALL, DEFAULT_CHUNK_SIZE, DEFAULT_QUEUE_DEPTH);
+    }
+
+    /**
+     * @param targets     - The file systems to replicate to, the first one serves the reads first.
+     * @param writeQuorum - The number of targets that must succeed, {@link #ALL}, {@link #ANY} or k of n.
+     */
+    public ReplicatedFileSystem(List<FileSystem> targets, int writeQuorum) {
+        this(targets, writeQuorum, DEFAULT_CHUNK_SIZE, DEFAULT_QUEUE_DEPTH);
+    }
+
+    /**
+     * @param targets     - The file systems to replicate to, the first one serves the reads first.
+     * @param writeQuorum - The number of targets that must succeed, {@link #ALL}, {@link #ANY} or k of n.
+     * @param chunkSize   - The size in bytes of the chunks shared by the targets.
+     * @param queueDepth  - The number of chunks queued per target.
+     */
+    public ReplicatedFileSystem(List<FileSystem> targets, int writeQuorum, int chunkSize, int queueDepth) {
+        super(targets.get(0));
+        this.targets = Collections.unmodifiableList(new ArrayList<>(targets));
+        this.writeQuorum = Math.max(1, Math.min(writeQuorum, targets.size()));
+        this.chunkSize = Math.max(BufferPool.MIN_BUFFER_SIZE, chunkSize);
+        this.queueDepth = Math.max(1, queueDepth);
+    }
+
+    /**
+     * @return Returns the file systems replicated to.
+     */
+    public List<FileSystem> getTargets() {
+        return targets;
+    }
+
+    /**
+     * @return Returns the number of targets that must succeed.
+     */
+    public int getWriteQuorum() {
+        return writeQuorum;
+    }
+
+    /**
+     * This method can be used to upload the file to all the targets, the input stream is read once.
+     *
+     * @param inputStream - The file input stream.
+     * @param fileName    - The file name to save on file system.
+     * @throws FileSystemException
+     */
+    @Override
+    public void uploadFile(InputStream inputStream, String fileName) throws FileSystemException {
+        ReplicatingOutputStream out = new ReplicatingOutputStream(fileName);
+        try {
+            BufferPool.getDefault().copy(inputStream, out);
+            out.close();
+        } catch (IOException e) {
+            out.abort();
+            ErrorUtil.fileSystemException(String.format(ExceptionConstants.STR_REPLICATION_EXCEPTION, fileName), e);
+        }
+    }
+
+    /**
+     * This method can be used to get the output stream writing the file to all the targets, closing the stream
+     * commits the file on the targets once the quorum is reached.
+     *
+     * @param fileName - The file name to save on file system.
+     * @return Returns the output stream to write the file.
+     * @throws FileSystemException
+     */
+    @Override
+    public AbortableOutputStream openOutputStream(String fileName) throws FileSystemException {
+        return new ReplicatingOutputStream(fileName);
+    }
+
+    @Override
+    public void deleteFile(String fileKey) throws FileSystemException {
+        fanOut(target -> target.deleteFile(fileKey), fileKey);
+    }
+
+    @Override
+    public void createFolder(String folderName) throws FileSystemException {
+        fanOut(target -> target.createFolder(folderName), folderName);
+    }
+
+    @Override
+    public void copyFile(String sourceFilePath, String targetFilePath) throws FileSystemException {
+        fanOut(target -> target.copyFile(sourceFilePath, targetFilePath), targetFilePath);
+    }
+
+    @Override
+    public InputStream read(String filePath) throws FileSystemException {
+        return firstAvailable(target -> target.read(filePath));
+    }
+
+    @Override
+    public InputStream read(String filePath, long offset, long length) throws FileSystemException {
+        return firstAvailable(target -> target.read(filePath, offset, length));
+    }
+
+    @Override
+    public SeekableByteChannel openChannel(String filePath) throws FileSystemException {
+        return firstAvailable(target -> target.openChannel(filePath));
+    }
+
+    @Override
+    public void downloadFile(String source, String destination) throws FileSystemException {
+        firstAvailable(target -> {
+            target.downloadFile(source, destination);
+            return null;
+        });
+    }
+
+    @Override
+    public List<String> getListOfFiles(String directory) throws FileSystemException {
+        return firstAvailable(target -> target.getListOfFiles(directory));
+    }
+
+    @Override
+    public List<FileInfo> getListOfFileInfo(String directory) throws FileSystemException {
+        return firstAvailable(target -> target.getListOfFileInfo(directory));
+    }
+
+    @Override
+    public Iterator<FileInfo> iterateFileInfo(String directory) throws FileSystemException {
+        return firstAvailable(target -> target.iterateFileInfo(directory));
+    }
+
+    @Override
+    public List<FileInfo> findFiles(String glob, Predicate<FileInfo> filter, int limit) throws FileSystemException {
+        return firstAvailable(target -> target.findFiles(glob, filter, limit));
+    }
+
+    /**
+     * Stop the replication threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Apply the operation to all the targets in parallel, the operation fails when less than quorum succeed.
+     */
+    private void fanOut(Update update, String path) throws FileSystemException {
+        List<Future<?>> futures = new ArrayList<>();
+        for (FileSystem target : targets) {
+            futures.add(executor.submit(() -> {
+                update.apply(target);
+                return null;
+            }));
+        }
+        int succeeded = 0;
+        Exception failure = null;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+                succeeded++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                ErrorUtil.fileSystemException(ExceptionConstants.STR_INTERRUPTED_EXCEPTION, e);
+            } catch (ExecutionException e) {
+                failure = (Exception) e.getCause();
+                log.warning(String.format("The update of: %s failed on replica %d. Cause: %s", path, i, failure));
+            }
+        }
+        if (succeeded < writeQuorum) {
+            ErrorUtil.fileSystemException(String.format(ExceptionConstants.STR_REPLICATION_EXCEPTION, path), failure);
+        }
+    }
+
+    /**
+     * Run the operation on the targets in order until one succeeds.
+     */
+    private <T> T firstAvailable(Operation<T> operation) throws FileSystemException {
+        FileSystemException failure = null;
+        for (int i = 0; i < targets.size(); i++) {
+            try {
+                return operation.apply(targets.get(i));
+            } catch (FileSystemException e) {
+                log.warning(String.format("The replica %d failed, trying the next one. Cause: %s", i, e));
+                failure = e;
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * The update of a target.
+     */
+    private interface Update {
+        void apply(FileSystem target) throws FileSystemException;
+    }
+
+    /**
+     * The operation on a target.
+     */
+    private interface Operation<T> {
+        T apply(FileSystem target) throws FileSystemException;
+    }
+
+    /**
+     * The pooled chunk shared by the targets, it is returned to the pool once every target wrote it.
+     */
+    private static final class Chunk {
+        private final ByteBuffer buffer;
+        private final int length;
+        private final AtomicInteger references = new AtomicInteger();
+
+        Chunk(ByteBuffer buffer, int length) {
+            this.buffer = buffer;
+            this.length = length;
+        }
+
+        void release() {
+            if (buffer != null && references.decrementAndGet() == 0) {
+                BufferPool.getDefault().release(buffer);
+            }
+        }
+    }
+
+    /**
+     * The write of the file to one target. The replica keeps taking the chunks after it failed, so the writer is never
+     * blocked by it, and waits for the commit decision after it wrote the whole file.
+     */
+    private final class Replica implements Runnable {
+        private final int index;
+        private final FileSystem target;
+        private final String fileName;
+        private final BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(queueDepth);
+        private final ReplicatingOutputStream writer;
+        private volatile Exception failure;
+        private volatile boolean committed;
+
+        Replica(int index, FileSystem target, String fileName, ReplicatingOutputStream writer) {
+            this.index = index;
+            this.target = target;
+            this.fileName = fileName;
+            this.writer = writer;
+        }
+
+        @Override
+        public void run() {
+            AbortableOutputStream out = null;
+            boolean aborted = false;
+            try {
+                try {
+                    out = target.openOutputStream(fileName);
+                } catch (FileSystemException | RuntimeException e) {
+                    fail(e);
+                }
+                while (true) {
+                    Chunk chunk = queue.take();
+                    if (chunk == END || chunk == ABORT) {
+                        aborted = chunk == ABORT;
+                        break;
+                    }
+                    try {
+                        if (failure == null) {
+                            out.write(chunk.buffer.array(), 0, chunk.length);
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        fail(e);
+                    } finally {
+                        chunk.release();
+                    }
+                }
+                writer.received.countDown();
+                if (!aborted && failure == null && writer.awaitDecision()) {
+                    out.close();
+                    committed = true;
+                }
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            } finally {
+                if (out != null && !committed) {
+                    // the failed replica discards its partial file too, even when the quorum is reached without it
+                    abort(out);
+                }
+                writer.completed.countDown();
+            }
+        }
+
+        private void abort(AbortableOutputStream out) {
+            try {
+                out.abort();
+            } catch (IOException | RuntimeException e) {
+                log.warning(String.format("The write of: %s could not be aborted on replica %d. Cause: %s", fileName,
+                        index, e));
+            }
+        }
+
+        private void fail(Exception e) {
+            if (failure != null) {
+                return;
+            }
+            failure = e;
+            writer.failures.incrementAndGet();
+            log.warning(String.format("The write of: %s failed on replica %d. Cause: %s", fileName, index, e));
+        }
+    }
+
+    /**
+     * The output stream cutting the written bytes into chunks and queuing every chunk to all the replicas.
+     */
+    private final class ReplicatingOutputStream extends AbortableOutputStream {
+        private final String fileName;
+        private final List<Replica> replicas = new ArrayList<>();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final CountDownLatch received;
+        private final CountDownLatch decided = new CountDownLatch(1);
+        private final CountDownLatch completed;
+        private volatile boolean commit;
+        private ByteBuffer buffer;
+        private boolean closed;
+
+        ReplicatingOutputStream(String fileName) {
+            this.fileName = fileName;
+            this.received = new CountDownLatch(targets.size());
+            this.completed = new CountDownLatch(targets.size());
+            for (int i = 0; i < targets.size(); i++) {
+                Replica replica = new Replica(i, targets.get(i), fileName, this);
+                replicas.add(replica);
+                executor.execute(replica);
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("The stream is closed.");
+            }
+            while (len > 0) {
+                if (buffer == null) {
+                    buffer = BufferPool.getDefault().acquire(chunkSize);
+                }
+                int count = Math.min(len, buffer.remaining());
+                buffer.put(b, off, count);
+                off += count;
+                len -= count;
+                if (!buffer.hasRemaining()) {
+                    publishBuffer();
+                }
+            }
+        }
+
+        /**
+         * Commit the file on the replicas once all of them received it and the quorum is reached.
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            if (buffer != null && buffer.position() > 0) {
+                publishBuffer();
+            }
+            closed = true;
+            releaseBuffer();
+            publish(END);
+            try {
+                received.await();
+                commit = targets.size() - failures.get() >= writeQuorum;
+                decided.countDown();
+                completed.await();
+            } catch (InterruptedException e) {
+                decided.countDown();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ExceptionConstants.STR_INTERRUPTED_EXCEPTION);
+            }
+            int committed = 0;
+            for (Replica replica : replicas) {
+                committed += replica.committed ? 1 : 0;
+            }
+            if (committed < writeQuorum) {
+                throw new IOException(String.format(ExceptionConstants.STR_REPLICATION_EXCEPTION, fileName)
+                        + String.format(" Committed %d of %d required replicas.", committed, writeQuorum));
+            }
+        }
+
+        /**
+         * Abort the write on all the replicas and wait until they discarded it.
+         */
+        @Override
+        public void abort() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            releaseBuffer();
+            boolean interrupted = false;
+            // the replicas keep taking the chunks, so the abort reaches all of them even when interrupted
+            for (Replica replica : replicas) {
+                while (true) {
+                    try {
+                        replica.queue.put(ABORT);
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            decided.countDown();
+            try {
+                completed.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        boolean awaitDecision() throws InterruptedException {
+            decided.await();
+            return commit;
+        }
+
+        private void publishBuffer() throws IOException {
+            Chunk chunk = new Chunk(buffer, buffer.position());
+            buffer = null;
+            chunk.references.set(replicas.size());
+            publish(chunk);
+            if (targets.size() - failures.get() < writeQuorum) {
+                abort();
+                throw new IOException(String.format(ExceptionConstants.STR_REPLICATION_EXCEPTION, fileName)
+                        + String.format(" Failed %d of %d replicas.", failures.get(), targets.size()));
+            }
+        }
+
+        private void publish(Chunk chunk) throws InterruptedIOException {
+            try {
+                for (Replica replica : replicas) {
+                    replica.queue.put(chunk);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ExceptionConstants.STR_INTERRUPTED_EXCEPTION);
+            }
+        }
+
+        private void releaseBuffer() {
+            BufferPool.getDefault().release(buffer);
+            buffer = null;
+        }
+    }
+
+}
@@ -0,0 +1,317 @@
+package com.github.filesystem.decorator;
+
+import com.github.filesystem.FileSystem;
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.io.AbortableOutputStream;
+import com.github.filesystem.model.FileInfo;
+import com.github.filesystem.scheduler.TransferScheduler;
+import com.github.filesystem.scheduler.TransferScheduler.Priority;
+import com.github.filesystem.scheduler.TransferScheduler.Ticket;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The scheduled file system. Every operation takes a slot of the transfer scheduler of the backend before it runs on
+ * the decorated file system, so the operations of all the tenants and priorities sharing the scheduler are limited to
+ * its concurrency and started in its order. The returned streams and channels hold their slot until they are closed,
+ * as the transfer happens while they are consumed.
+ * <p>
+ * One scheduler is shared per backend, every tenant and priority gets its own decorator over it:
+ * <pre>
+ *     TransferScheduler scheduler = new TransferScheduler(16);
+ *     FileSystem interactive = new ScheduledFileSystem(s3, scheduler, "tenant-a", Priority.INTERACTIVE);
+ *     FileSystem bulk = new ScheduledFileSystem(s3, scheduler, "tenant-a", Priority.BULK);
+ * </pre>
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public class ScheduledFileSystem extends FileSystemDecorator {
+
+    private final TransferScheduler scheduler;
+    private final String tenant;
+    private final Priority priority;
+    private final double weight;
+
+    /**
+     * @param delegate  - The file system to schedule the operations on.
+     * @param scheduler - The scheduler shared by the users of the backend.
+     * @param tenant    - The tenant key of the operations.
+     * @param priority  - The priority class of the operations.
+     */
+    public ScheduledFileSystem(FileSystem delegate, TransferScheduler scheduler, String tenant, Priority priority) {
+        this(delegate, scheduler, tenant, priority, 1);
+    }
+
+    /**
+     * @param delegate  - The file system to schedule the operations on.
+     * @param scheduler - The scheduler shared by the users of the backend.
+     * @param tenant    - The tenant key of the operations.
+     * @param priority  - The priority class of the operations.
+     * @param weight    - The share of the tenant within its priority, relative to the other tenants.
+     */
+    public ScheduledFileSystem(FileSystem delegate, TransferScheduler scheduler, String tenant, Priority priority,
+                               double weight) {
+        super(delegate);
+        this.scheduler = scheduler;
+        this.tenant = tenant;
+        this.priority = priority;
+        this.weight = weight;
+    }
+
+    /**
+     * @return Returns the scheduler of the backend.
+     */
+    public TransferScheduler getScheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public InputStream read(String filePath) throws FileSystemException {
+        Ticket ticket = scheduler.acquire(tenant, priority, weight);
+        try {
+            return new ScheduledInputStream(delegate.read(filePath), ticket);
+        } catch (FileSystemException | RuntimeException e) {
+            scheduler.release(ticket);
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream read(String filePath, long offset, long length) throws FileSystemException {
+        Ticket ticket = scheduler.acquire(tenant, priority, weight);
+        try {
+            return new ScheduledInputStream(delegate.read(filePath, offset, length), ticket);
+        } catch (FileSystemException | RuntimeException e) {
+            scheduler.release(ticket);
+            throw e;
+        }
+    }
+
+    @Override
+    public SeekableByteChannel openChannel(String filePath) throws FileSystemException {
+        Ticket ticket = scheduler.acquire(tenant, priority, weight);
+        try {
+            return new ScheduledChannel(delegate.openChannel(filePath), ticket);
+        } catch (FileSystemException | RuntimeException e) {
+            scheduler.release(ticket);
+            throw e;
+        }
+    }
+
+    @Override
+    public AbortableOutputStream openOutputStream(String fileName) throws FileSystemException {
+        Ticket ticket = scheduler.acquire(tenant, priority, weight);
+        try {
+            return new ScheduledOutputStream(delegate.openOutputStream(fileName), ticket);
+        } catch (FileSystemException | RuntimeException e) {
+            scheduler.release(ticket);
+            throw e;
+        }
+    }
+
+    @Override
+    public void uploadFile(InputStream inputStream, String fileName) throws FileSystemException {
+        schedule(() -> {
+            delegate.uploadFile(inputStream, fileName);
+            return null;
+        });
+    }
+
+    @Override
+    public void downloadFile(String source, String destination) throws FileSystemException {
+        schedule(() -> {
+            delegate.downloadFile(source, destination);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteFile(String fileKey) throws FileSystemException {
+        schedule(() -> {
+            delegate.deleteFile(fileKey);
+            return null;
+        });
+    }
+
+    @Override
+    public void createFolder(String folderName) throws FileSystemException {
+        schedule(() -> {
+            delegate.createFolder(folderName);
+            return null;
+        });
+    }
+
+    @Override
+    public void copyFile(String sourceFilePath, String targetFilePath) throws FileSystemException {
+        schedule(() -> {
+            delegate.copyFile(sourceFilePath, targetFilePath);
+            return null;
+        });
+    }
+
+    @Override
+    public List<String> getListOfFiles(String directory) throws FileSystemException {
+        return schedule(() -> delegate.getListOfFiles(directory));
+    }
+
+    @Override
+    public List<FileInfo> getListOfFileInfo(String directory) throws FileSystemException {
+        return schedule(() -> delegate.getListOfFileInfo(directory));
+    }
+
+    @Override
+    public List<FileInfo> findFiles(String glob, Predicate<FileInfo> filter, int limit) throws FileSystemException {
+        return schedule(() -> delegate.findFiles(glob, filter, limit));
+    }
+
+    private <T> T schedule(Operation<T> operation) throws FileSystemException {
+        Ticket ticket = scheduler.acquire(tenant, priority, weight);
+        try {
+            return operation.run();
+        } finally {
+            scheduler.release(ticket);
+        }
+    }
+
+    /**
+     * The operation on decorated file system.
+     */
+    private interface Operation<T> {
+        T run() throws FileSystemException;
+    }
+
+    /**
+     * The input stream releasing its slot when closed.
+     */
+    private final class ScheduledInputStream extends FilterInputStream {
+        private final Ticket ticket;
+
+        ScheduledInputStream(InputStream in, Ticket ticket) {
+            super(in);
+            this.ticket = ticket;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                scheduler.release(ticket);
+            }
+        }
+    }
+
+    /**
+     * The output stream releasing its slot when closed or aborted.
+     */
+    private final class ScheduledOutputStream extends AbortableOutputStream {
+        private final AbortableOutputStream out;
+        private final Ticket ticket;
+
+        ScheduledOutputStream(AbortableOutputStream out, Ticket ticket) {
+            this.out = out;
+            this.ticket = ticket;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                out.close();
+            } finally {
+                scheduler.release(ticket);
+            }
+        }
+
+        @Override
+        public void abort() throws IOException {
+            try {
+                out.abort();
+            } finally {
+                scheduler.release(ticket);
+            }
+        }
+    }
+
+    /**
+     * The channel releasing its slot when closed.
+     */
+    private final class ScheduledChannel implements SeekableByteChannel {
+        private final SeekableByteChannel channel;
+        private final Ticket ticket;
+
+        ScheduledChannel(SeekableByteChannel channel, Ticket ticket) {
+            this.channel = channel;
+            this.ticket = ticket;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return channel.read(dst);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return channel.write(src);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return channel.position();
+        }
+
+        @Override
+        public SeekableByteChannel position(long newPosition) throws IOException {
+            channel.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return channel.size();
+        }
+
+        @Override
+        public SeekableByteChannel truncate(long size) throws IOException {
+            channel.truncate(size);
+            return this;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                channel.close();
+            } finally {
+                scheduler.release(ticket);
+            }
+        }
+    }
+
+}
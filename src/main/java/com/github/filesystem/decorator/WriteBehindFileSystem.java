@@ -0,0 +1,594 @@
+package com.github.filesystem.decorator;
+
+import com.github.filesystem.FileSystem;
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.io.AbortableOutputStream;
+import com.github.filesystem.io.BufferPool;
+import com.github.filesystem.io.RangeInputStream;
+import com.github.filesystem.util.ErrorUtil;
+import com.github.filesystem.util.ExceptionConstants;
+import com.github.filesystem.util.ThreadUtil;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * The write-behind file system. Every upload is written durably to the local spool directory and acknowledged, the
+ * background flushers then upload the spooled files to the decorated file system with bounded concurrency and
+ * retries. The reads of not yet flushed files are served from the spool, and the spool left by a crash is flushed
+ * when the file system is created again on the same spool directory.
+ * <p>
+ * Every spooled upload is kept as data file and meta file holding the target file name, the meta file is written
+ * last so only the complete uploads are recovered. A newer upload of the same file supersedes the older one.
+ * <p>
+ * The file failing all its upload attempts is moved to the failed files, it stays in spool and is still read from it
+ * until {@link #retryFailed()} or the next start flushes it again.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public class WriteBehindFileSystem extends FileSystemDecorator implements Closeable {
+
+    public static final Logger log = Logger.getLogger(WriteBehindFileSystem.class.getName());
+
+    /**
+     * The default number of files uploaded in parallel.
+     */
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    /**
+     * The default number of upload attempts of a spooled file.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+
+    /**
+     * The default delay before the first retry in milliseconds, the delay is doubled on every attempt.
+     */
+    public static final long DEFAULT_RETRY_DELAY = 1000;
+
+    private static final long MAX_RETRY_DELAY = 60 * 1000;
+    private static final long BUSY_DELAY = 100;
+    private static final String DATA_SUFFIX = ".data";
+    private static final String META_SUFFIX = ".meta";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private final Path spoolDirectory;
+    private final int maxAttempts;
+    private final long retryDelay;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, SpoolEntry> pending = new ConcurrentHashMap<>();
+    private final Map<String, SpoolEntry> failed = new ConcurrentHashMap<>();
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final BlockingQueue<SpoolEntry> queue = new LinkedBlockingQueue<>();
+    private final Object flushMonitor = new Object();
+    private final ExecutorService flushers;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param delegate       - The file system to flush the spooled files to.
+     * @param spoolDirectory - The local spool directory.
+     * @throws FileSystemException
+     */
+    public WriteBehindFileSystem(FileSystem delegate, String spoolDirectory) throws FileSystemException {
+        this(delegate, spoolDirectory, DEFAULT_CONCURRENCY, DEFAULT_MAX_ATTEMPTS, DEFAULT_RETRY_DELAY);
+    }
+
+    /**
+     * @param delegate       - The file system to flush the spooled files to.
+     * @param spoolDirectory - The local spool directory.
+     * @param concurrency    - The number of files uploaded in parallel.
+     * @param maxAttempts    - The number of upload attempts before the file is moved to the failed files.
+     * @param retryDelay     - The delay before the first retry in milliseconds.
+     * @throws FileSystemException
+     */
+    public WriteBehindFileSystem(FileSystem delegate, String spoolDirectory, int concurrency, int maxAttempts,
+                                 long retryDelay) throws FileSystemException {
+        super(delegate);
+        this.spoolDirectory = Paths.get(spoolDirectory);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelay = retryDelay;
+        try {
+            Files.createDirectories(this.spoolDirectory);
+            recover();
+        } catch (IOException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_SPOOL_EXCEPTION, e);
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(ThreadUtil.daemonThreadFactory("write-behind-retry"));
+        this.flushers = Executors.newFixedThreadPool(concurrency, ThreadUtil.daemonThreadFactory("write-behind-flush"));
+        for (int i = 0; i < concurrency; i++) {
+            flushers.execute(this::flushLoop);
+        }
+    }
+
+    /**
+     * This method can be used to upload file input stream to file system. The stream is written to the spool and
+     * synced to disk, the file is uploaded to the decorated file system in background.
+     *
+     * @param inputStream - The file input stream.
+     * @param fileName    - The file name to save on file system.
+     * @throws FileSystemException
+     */
+    @Override
+    public void uploadFile(InputStream inputStream, String fileName) throws FileSystemException {
+        SpoolOutputStream out = null;
+        try {
+            out = new SpoolOutputStream(fileName);
+            BufferPool.getDefault().copy(inputStream, out);
+            out.close();
+        } catch (IOException e) {
+            if (out != null) {
+                out.abort();
+            }
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_SPOOL_EXCEPTION, e);
+        }
+    }
+
+    /**
+     * This method can be used to get the output stream to write the file to the spool, closing the stream syncs the
+     * file to disk and schedules its upload to the decorated file system.
+     *
+     * @param fileName - The file name to save on file system.
+     * @return Returns the output stream to write the file.
+     * @throws FileSystemException
+     */
+    @Override
+    public AbortableOutputStream openOutputStream(String fileName) throws FileSystemException {
+        try {
+            return new SpoolOutputStream(fileName);
+        } catch (IOException e) {
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_SPOOL_EXCEPTION, e);
+        }
+        return null;
+    }
+
+    @Override
+    public InputStream read(String filePath) throws FileSystemException {
+        SpoolEntry entry = spooled(filePath);
+        if (entry != null) {
+            try {
+                return new FileInputStream(entry.data.toFile());
+            } catch (FileNotFoundException e) {
+                // the file is flushed meanwhile
+            }
+        }
+        return delegate.read(filePath);
+    }
+
+    @Override
+    public InputStream read(String filePath, long offset, long length) throws FileSystemException {
+        SpoolEntry entry = spooled(filePath);
+        if (entry != null) {
+            try {
+                FileChannel channel = FileChannel.open(entry.data, StandardOpenOption.READ);
+                channel.position(offset);
+                return new RangeInputStream(Channels.newInputStream(channel), length);
+            } catch (NoSuchFileException e) {
+                // the file is flushed meanwhile
+            } catch (IOException e) {
+                ErrorUtil.fileSystemException(ExceptionConstants.STR_IO_EXCEPTION, e);
+            }
+        }
+        return delegate.read(filePath, offset, length);
+    }
+
+    @Override
+    public SeekableByteChannel openChannel(String filePath) throws FileSystemException {
+        SpoolEntry entry = spooled(filePath);
+        if (entry != null) {
+            try {
+                return FileChannel.open(entry.data, StandardOpenOption.READ);
+            } catch (NoSuchFileException e) {
+                // the file is flushed meanwhile
+            } catch (IOException e) {
+                ErrorUtil.fileSystemException(ExceptionConstants.STR_IO_EXCEPTION, e);
+            }
+        }
+        return delegate.openChannel(filePath);
+    }
+
+    @Override
+    public void downloadFile(String source, String destination) throws FileSystemException {
+        SpoolEntry entry = spooled(source);
+        if (entry != null) {
+            try {
+                Files.copy(entry.data, Paths.get(destination), StandardCopyOption.REPLACE_EXISTING);
+                return;
+            } catch (NoSuchFileException e) {
+                // the file is flushed meanwhile
+            } catch (IOException e) {
+                ErrorUtil.fileSystemException(String.format(ExceptionConstants.STR_FILE_EXCEPTION, destination), e);
+            }
+        }
+        delegate.downloadFile(source, destination);
+    }
+
+    @Override
+    public void copyFile(String sourceFilePath, String targetFilePath) throws FileSystemException {
+        SpoolEntry entry = spooled(sourceFilePath);
+        if (entry != null) {
+            try (InputStream in = new FileInputStream(entry.data.toFile())) {
+                uploadFile(in, targetFilePath);
+                return;
+            } catch (FileNotFoundException e) {
+                // the file is flushed meanwhile
+            } catch (IOException e) {
+                ErrorUtil.fileSystemException(ExceptionConstants.STR_IO_EXCEPTION, e);
+            }
+        }
+        delegate.copyFile(sourceFilePath, targetFilePath);
+    }
+
+    /**
+     * This method can be used to delete the file from file system. The not yet flushed upload of the file is
+     * discarded with its spool files, and the flush already uploading the file is awaited so it can not land after
+     * the delete. The file may exist only in spool so the failure of remote delete is ignored in that case.
+     *
+     * @param fileKey - The file name to delete.
+     * @throws FileSystemException
+     */
+    @Override
+    public void deleteFile(String fileKey) throws FileSystemException {
+        SpoolEntry entry;
+        SpoolEntry dead;
+        synchronized (flushMonitor) {
+            entry = pending.remove(fileKey);
+            dead = failed.remove(fileKey);
+            flushMonitor.notifyAll();
+        }
+        if (entry != null) {
+            deleteSpool(entry);
+        }
+        if (dead != null) {
+            deleteSpool(dead);
+        }
+        synchronized (flushMonitor) {
+            try {
+                while (inFlight.contains(fileKey)) {
+                    flushMonitor.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                ErrorUtil.fileSystemException(ExceptionConstants.STR_INTERRUPTED_EXCEPTION, e);
+            }
+        }
+        if (entry == null && dead == null) {
+            delegate.deleteFile(fileKey);
+            return;
+        }
+        try {
+            delegate.deleteFile(fileKey);
+        } catch (FileSystemException e) {
+            log.fine(String.format("The spooled file: %s is not on file system. Cause: %s", fileKey, e.getMessage()));
+        }
+    }
+
+    /**
+     * Wait until all the spooled files are flushed to the decorated file system or moved to the failed files.
+     *
+     * @param timeout - The maximum time to wait.
+     * @param unit    - The time unit of timeout.
+     * @return Returns true when all the files are flushed, false when the timeout elapsed or some files failed.
+     * @throws InterruptedException
+     */
+    public boolean awaitFlush(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (flushMonitor) {
+            while (!pending.isEmpty()) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return false;
+                }
+                flushMonitor.wait(remaining);
+            }
+            return failed.isEmpty();
+        }
+    }
+
+    /**
+     * @return Returns the number of spooled files not yet flushed.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return Returns the number of spooled files which failed all their upload attempts.
+     */
+    public int getFailedCount() {
+        return failed.size();
+    }
+
+    /**
+     * @return Returns the names of the spooled files which failed all their upload attempts.
+     */
+    public Set<String> getFailedFiles() {
+        return new TreeSet<>(failed.keySet());
+    }
+
+    /**
+     * This method can be used to schedule the flush of the failed files again with the full number of attempts.
+     */
+    public void retryFailed() {
+        synchronized (flushMonitor) {
+            List<SpoolEntry> entries = new ArrayList<>(failed.values());
+            failed.clear();
+            for (SpoolEntry entry : entries) {
+                entry.attempts = 0;
+                enqueue(entry);
+            }
+        }
+    }
+
+    /**
+     * Stop the background flushers, the files not yet flushed stay in spool and are flushed on the next start.
+     */
+    @Override
+    public void close() {
+        flushers.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Find the complete spooled uploads left by the previous run and schedule their flush, the incomplete ones were
+     * never acknowledged so they are removed.
+     */
+    private void recover() throws IOException {
+        List<String> names = new ArrayList<>();
+        Set<String> committed = new HashSet<>();
+        List<Path> data = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spoolDirectory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(TMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                } else if (fileName.endsWith(META_SUFFIX)) {
+                    names.add(fileName.substring(0, fileName.length() - META_SUFFIX.length()));
+                    committed.add(names.get(names.size() - 1));
+                } else if (fileName.endsWith(DATA_SUFFIX)) {
+                    data.add(file);
+                }
+            }
+        }
+        for (Path file : data) {
+            String fileName = file.getFileName().toString();
+            if (!committed.contains(fileName.substring(0, fileName.length() - DATA_SUFFIX.length()))) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Collections.sort(names);
+        for (String name : names) {
+            sequence.set(Math.max(sequence.get(), Long.parseLong(name)));
+            Path meta = spoolDirectory.resolve(name + META_SUFFIX);
+            String target = new String(Files.readAllBytes(meta), StandardCharsets.UTF_8);
+            enqueue(new SpoolEntry(target, spoolDirectory.resolve(name + DATA_SUFFIX), meta));
+        }
+        if (!names.isEmpty()) {
+            log.info(String.format("Recovered %d spooled files to flush.", names.size()));
+        }
+    }
+
+    /**
+     * Write the meta file of the spooled upload and make it visible to the flushers and the readers.
+     */
+    private void commit(String name, String fileName) throws IOException {
+        Path metaTmp = spoolDirectory.resolve(name + META_SUFFIX + TMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(metaTmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(fileName.getBytes(StandardCharsets.UTF_8)));
+            channel.force(true);
+        }
+        Path data = Files.move(spoolDirectory.resolve(name + DATA_SUFFIX + TMP_SUFFIX),
+                spoolDirectory.resolve(name + DATA_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+        Path meta = Files.move(metaTmp, spoolDirectory.resolve(name + META_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+        syncSpoolDirectory();
+        enqueue(new SpoolEntry(fileName, data, meta));
+    }
+
+    /**
+     * Make the spooled upload visible to the flushers and the readers, the failed upload of the same file it
+     * supersedes is removed.
+     */
+    private void enqueue(SpoolEntry entry) {
+        SpoolEntry dead;
+        synchronized (flushMonitor) {
+            pending.put(entry.fileName, entry);
+            dead = failed.remove(entry.fileName);
+        }
+        if (dead != null) {
+            deleteSpool(dead);
+        }
+        queue.offer(entry);
+    }
+
+    /**
+     * Get the spooled upload of the file not yet flushed or failed.
+     */
+    private SpoolEntry spooled(String fileName) {
+        SpoolEntry entry = pending.get(fileName);
+        return entry != null ? entry : failed.get(fileName);
+    }
+
+    private void flushLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                flush(queue.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Upload the spooled file, the superseded or deleted uploads are removed without upload and the upload of file
+     * still flushing its previous version is postponed, so the latest version always lands last.
+     */
+    private void flush(SpoolEntry entry) {
+        boolean current;
+        synchronized (flushMonitor) {
+            current = pending.get(entry.fileName) == entry;
+            if (current && !inFlight.add(entry.fileName)) {
+                scheduler.schedule(() -> queue.offer(entry), BUSY_DELAY, TimeUnit.MILLISECONDS);
+                return;
+            }
+        }
+        if (!current) {
+            deleteSpool(entry);
+            return;
+        }
+        try {
+            try (InputStream in = new FileInputStream(entry.data.toFile())) {
+                delegate.uploadFile(in, entry.fileName);
+            }
+            deleteSpool(entry);
+            pending.remove(entry.fileName, entry);
+            notifyFlushed();
+        } catch (FileSystemException | IOException e) {
+            entry.attempts++;
+            if (entry.attempts < maxAttempts) {
+                long delay = Math.min(retryDelay << (entry.attempts - 1), MAX_RETRY_DELAY);
+                log.warning(String.format("The flush of file: %s failed, retrying in %d ms. Cause: %s",
+                        entry.fileName, delay, e.getMessage()));
+                scheduler.schedule(() -> queue.offer(entry), delay, TimeUnit.MILLISECONDS);
+            } else {
+                log.severe(String.format("The flush of file: %s failed %d times, it is moved to the failed files.",
+                        entry.fileName, entry.attempts));
+                fail(entry);
+            }
+        } finally {
+            synchronized (flushMonitor) {
+                inFlight.remove(entry.fileName);
+                flushMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Move the upload which failed all its attempts to the failed files, unless it is superseded or deleted meanwhile.
+     */
+    private void fail(SpoolEntry entry) {
+        boolean current;
+        synchronized (flushMonitor) {
+            current = pending.remove(entry.fileName, entry);
+            if (current) {
+                failed.put(entry.fileName, entry);
+                flushMonitor.notifyAll();
+            }
+        }
+        if (!current) {
+            deleteSpool(entry);
+        }
+    }
+
+    private void deleteSpool(SpoolEntry entry) {
+        try {
+            Files.deleteIfExists(entry.meta);
+            Files.deleteIfExists(entry.data);
+        } catch (IOException e) {
+            log.warning(String.format("The spooled file: %s could not be removed. Cause: %s", entry.data, e));
+        }
+    }
+
+    private void notifyFlushed() {
+        synchronized (flushMonitor) {
+            flushMonitor.notifyAll();
+        }
+    }
+
+    /**
+     * Sync the renames of spool directory, not every platform allows to open the directory so it is best effort.
+     */
+    private void syncSpoolDirectory() {
+        try (FileChannel channel = FileChannel.open(spoolDirectory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.fine(String.format("The spool directory could not be synced. Cause: %s", e));
+        }
+    }
+
+    /**
+     * The spooled upload of a file.
+     */
+    private static final class SpoolEntry {
+        private final String fileName;
+        private final Path data;
+        private final Path meta;
+        private int attempts;
+
+        SpoolEntry(String fileName, Path data, Path meta) {
+            this.fileName = fileName;
+            this.data = data;
+            this.meta = meta;
+        }
+    }
+
+    /**
+     * The output stream writing the file into spool, closing the stream syncs the file and schedules the flush.
+     */
+    private final class SpoolOutputStream extends AbortableOutputStream {
+        private final String fileName;
+        private final String name;
+        private final Path dataTmp;
+        private final OutputStream out;
+        private final FileChannel channel;
+        private boolean closed;
+
+        SpoolOutputStream(String fileName) throws IOException {
+            this.fileName = fileName;
+            this.name = String.format("%019d", sequence.incrementAndGet());
+            this.dataTmp = spoolDirectory.resolve(name + DATA_SUFFIX + TMP_SUFFIX);
+            this.channel = FileChannel.open(dataTmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            this.out = new BufferedOutputStream(Channels.newOutputStream(channel), BufferPool.COPY_BUFFER_SIZE);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            try {
+                out.flush();
+                channel.force(true);
+                channel.close();
+                commit(name, fileName);
+                closed = true;
+            } catch (IOException e) {
+                abort();
+                throw e;
+            }
+        }
+
+        @Override
+        public void abort() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                channel.close();
+                Files.deleteIfExists(dataTmp);
+            } catch (IOException e) {
+                log.warning(String.format("The spooled file: %s could not be removed. Cause: %s", dataTmp, e));
+            }
+        }
+    }
+
+}
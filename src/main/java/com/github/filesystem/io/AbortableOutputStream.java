@@ -0,0 +1,23 @@
+package com.github.filesystem.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The output stream writing a file on file system. Closing the stream commits the file, aborting the stream discards
+ * everything written so far. The stream is aborted automatically when the write or commit fails.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public abstract class AbortableOutputStream extends OutputStream {
+
+    /**
+     * Abort the write and close the stream, nothing written to the stream is committed to the file system.
+     *
+     * @throws IOException
+     */
+    public abstract void abort() throws IOException;
+
+}
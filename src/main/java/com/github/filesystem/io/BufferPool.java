@@ -0,0 +1,202 @@
+package com.github.filesystem.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The pool of transfer buffers shared by all the file systems. The buffers are pooled in power of two size classes,
+ * the small classes are cached per thread first so the steady state transfers take and return the buffers without
+ * contention, the other released buffers are kept in the shared pool up to its memory cap.
+ * <p>
+ * The memory cap covers the shared pool only. The per thread caches are not counted in it, every thread caches at
+ * most 4 buffers of each class up to 256 KB, which is about 2 MB per thread using the pool. The cached buffers are
+ * left to the garbage collector when their thread ends.
+ * <p>
+ * The buffers are array backed, the transfers of the library go through the streams of the S3 and SFTP clients which
+ * read and write byte arrays, so the direct buffers would only add a copy.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public final class BufferPool {
+
+    /**
+     * The smallest pooled buffer size.
+     */
+    public static final int MIN_BUFFER_SIZE = 4 * 1024;
+
+    /**
+     * The largest pooled buffer size, the larger buffers are allocated and left to garbage collector.
+     */
+    public static final int MAX_BUFFER_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The default memory cap of the buffers kept in the shared pool.
+     */
+    public static final long DEFAULT_MAX_MEMORY = 256L * 1024 * 1024;
+
+    /**
+     * The buffer size used to copy streams.
+     */
+    public static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final int THREAD_CACHE_MAX_BUFFER_SIZE = 256 * 1024;
+    private static final int THREAD_CACHE_DEPTH = 4;
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+    private static final int CLASSES = Integer.numberOfTrailingZeros(MAX_BUFFER_SIZE) - MIN_SHIFT + 1;
+    private static final int THREAD_CACHE_CLASSES = Integer.numberOfTrailingZeros(THREAD_CACHE_MAX_BUFFER_SIZE)
+            - MIN_SHIFT + 1;
+
+    private static final BufferPool DEFAULT = new BufferPool(DEFAULT_MAX_MEMORY);
+
+    private final ConcurrentLinkedDeque<ByteBuffer>[] free;
+    private final ThreadLocal<Deque<ByteBuffer>[]> threadCache;
+    private final AtomicLong pooledMemory = new AtomicLong();
+    private final AtomicLong allocations = new AtomicLong();
+    private volatile long maxMemory;
+
+    /**
+     * @param maxMemory - The memory cap of the buffers kept in the shared pool.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public BufferPool(long maxMemory) {
+        this.maxMemory = maxMemory;
+        this.free = new ConcurrentLinkedDeque[CLASSES];
+        for (int i = 0; i < CLASSES; i++) {
+            free[i] = new ConcurrentLinkedDeque<>();
+        }
+        this.threadCache = ThreadLocal.withInitial(() -> {
+            Deque<ByteBuffer>[] cache = new Deque[THREAD_CACHE_CLASSES];
+            for (int i = 0; i < THREAD_CACHE_CLASSES; i++) {
+                cache[i] = new ArrayDeque<>(THREAD_CACHE_DEPTH);
+            }
+            return cache;
+        });
+    }
+
+    /**
+     * @return Returns the pool shared by all the file systems.
+     */
+    public static BufferPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Take the buffer of at least the given size, the limit of the buffer is set to the size.
+     *
+     * @param size - The required size in bytes.
+     * @return Returns the array backed buffer with position 0.
+     */
+    public ByteBuffer acquire(int size) {
+        if (size > MAX_BUFFER_SIZE) {
+            allocations.incrementAndGet();
+            return ByteBuffer.allocate(size);
+        }
+        int sizeClass = sizeClass(size);
+        ByteBuffer buffer = null;
+        if (sizeClass < THREAD_CACHE_CLASSES) {
+            buffer = threadCache.get()[sizeClass].pollFirst();
+        }
+        if (buffer == null) {
+            buffer = free[sizeClass].pollFirst();
+            if (buffer != null) {
+                pooledMemory.addAndGet(-buffer.capacity());
+            }
+        }
+        if (buffer == null) {
+            allocations.incrementAndGet();
+            buffer = ByteBuffer.allocate(MIN_BUFFER_SIZE << sizeClass);
+        }
+        buffer.clear();
+        buffer.limit(size);
+        return buffer;
+    }
+
+    /**
+     * Return the buffer to the pool, the buffer must not be used after it is released.
+     *
+     * @param buffer - The buffer taken from the pool, null is ignored.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || !buffer.hasArray()) {
+            return;
+        }
+        int capacity = buffer.capacity();
+        if (capacity < MIN_BUFFER_SIZE || capacity > MAX_BUFFER_SIZE || Integer.bitCount(capacity) != 1) {
+            return;
+        }
+        int sizeClass = sizeClass(capacity);
+        if (sizeClass < THREAD_CACHE_CLASSES) {
+            Deque<ByteBuffer> cache = threadCache.get()[sizeClass];
+            if (cache.size() < THREAD_CACHE_DEPTH) {
+                cache.offerFirst(buffer);
+                return;
+            }
+        }
+        if (pooledMemory.addAndGet(capacity) > maxMemory) {
+            pooledMemory.addAndGet(-capacity);
+            return;
+        }
+        free[sizeClass].offerFirst(buffer);
+    }
+
+    /**
+     * Copy the input stream to the output stream with a pooled buffer.
+     *
+     * @param in  - The input stream.
+     * @param out - The output stream.
+     * @return Returns the number of bytes copied.
+     * @throws IOException
+     */
+    public long copy(InputStream in, OutputStream out) throws IOException {
+        ByteBuffer buffer = acquire(COPY_BUFFER_SIZE);
+        try {
+            byte[] bytes = buffer.array();
+            long total = 0;
+            int read;
+            while ((read = in.read(bytes, 0, COPY_BUFFER_SIZE)) > 0) {
+                out.write(bytes, 0, read);
+                total += read;
+            }
+            return total;
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * @param maxMemory - The memory cap of the buffers kept in the shared pool.
+     */
+    public void setMaxMemory(long maxMemory) {
+        this.maxMemory = maxMemory;
+    }
+
+    /**
+     * @return Returns the memory of the buffers kept in the shared pool, the per thread caches are not included.
+     */
+    public long getPooledMemory() {
+        return pooledMemory.get();
+    }
+
+    /**
+     * @return Returns the number of buffers allocated because the pool had none of the size.
+     */
+    public long getAllocationCount() {
+        return allocations.get();
+    }
+
+    private static int sizeClass(int size) {
+        if (size <= MIN_BUFFER_SIZE) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_SHIFT;
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.github.filesystem.io;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Splits the written bytes into content-defined chunks with the gear rolling hash. The chunk boundaries depend only on
+ * the content around them, so an insert or change in the file moves the boundaries of the nearby chunks only and the
+ * other chunks stay identical.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public final class ContentDefinedChunker {
+
+    /**
+     * Receives the completed chunks, the chunk buffer is reused after the call returns.
+     */
+    public interface ChunkConsumer {
+        void accept(byte[] chunk, int length) throws IOException;
+    }
+
+    private static final long[] GEAR = new long[256];
+
+    static {
+        // fixed seed, the boundaries must be the same on every run to deduplicate the chunks
+        Random random = new Random(0x5DEECE66DL);
+        for (int i = 0; i < GEAR.length; i++) {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    private final int minSize;
+    private final int maxSize;
+    private final long mask;
+    private final ChunkConsumer consumer;
+    private final byte[] buffer;
+    private int length;
+    private long hash;
+
+    /**
+     * @param averageSize - The average chunk size, rounded to power of two. Chunks are between quarter and four times
+     *                    of the average size.
+     * @param consumer    - The consumer of the completed chunks.
+     */
+    public ContentDefinedChunker(int averageSize, ChunkConsumer consumer) {
+        int average = Integer.highestOneBit(Math.max(64, averageSize));
+        this.minSize = average / 4;
+        this.maxSize = average * 4;
+        this.mask = average - 1;
+        this.consumer = consumer;
+        this.buffer = new byte[maxSize];
+    }
+
+    /**
+     * @param b   - The bytes to chunk.
+     * @param off - The start offset in the bytes.
+     * @param len - The number of bytes.
+     * @throws IOException
+     */
+    public void write(byte[] b, int off, int len) throws IOException {
+        int end = off + len;
+        for (int i = off; i < end; i++) {
+            byte value = b[i];
+            buffer[length++] = value;
+            hash = (hash << 1) + GEAR[value & 0xFF];
+            if (length >= maxSize || (length >= minSize && (hash & mask) == 0)) {
+                emit();
+            }
+        }
+    }
+
+    /**
+     * Emit the remaining bytes as the last chunk.
+     *
+     * @throws IOException
+     */
+    public void finish() throws IOException {
+        if (length > 0) {
+            emit();
+        }
+    }
+
+    /**
+     * @return Returns the largest chunk size.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private void emit() throws IOException {
+        consumer.accept(buffer, length);
+        length = 0;
+        hash = 0;
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.github.filesystem.io;
+
+import com.github.filesystem.FileSystem;
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.util.AppConstants;
+import com.github.filesystem.util.PropertyUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The read only seekable channel over a remote file. The file is read in fixed size blocks with ranged reads
+ * {@link FileSystem#read(String, long, long)}, the recently used blocks are cached and sequential reads fetch the
+ * next blocks ahead in the same request. Random access costs only the blocks actually touched. The blocks are taken
+ * from the shared buffer pool and returned to it when evicted from the cache or when the channel is closed.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public class RangedReadChannel implements SeekableByteChannel {
+
+    /**
+     * The default size of a single cached block.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+    /**
+     * The default number of blocks fetched by a single request when the file is read sequentially.
+     */
+    public static final int DEFAULT_READ_AHEAD_BLOCKS = 4;
+
+    /**
+     * The default number of blocks kept in the cache.
+     */
+    public static final int DEFAULT_CACHE_BLOCKS = 16;
+
+    private final FileSystem fileSystem;
+    private final String filePath;
+    private final long size;
+    private final int blockSize;
+    private final int readAheadBlocks;
+    private final Map<Long, ByteBuffer> blocks;
+    private long position;
+    private long lastBlock = -1;
+    private boolean open = true;
+
+    /**
+     * @param fileSystem      - The file system to read the ranges from.
+     * @param filePath        - The file path.
+     * @param size            - The size of the file.
+     * @param blockSize       - The size of a single block.
+     * @param readAheadBlocks - The number of blocks fetched by a single request on sequential reads.
+     * @param cacheBlocks     - The number of blocks kept in the cache.
+     */
+    public RangedReadChannel(FileSystem fileSystem, String filePath, long size, int blockSize, int readAheadBlocks,
+                             int cacheBlocks) {
+        this.fileSystem = fileSystem;
+        this.filePath = filePath;
+        this.size = size;
+        this.blockSize = blockSize;
+        this.readAheadBlocks = Math.max(1, readAheadBlocks);
+        final int maxBlocks = Math.max(this.readAheadBlocks, cacheBlocks);
+        this.blocks = new LinkedHashMap<Long, ByteBuffer>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ByteBuffer> eldest) {
+                if (size() > maxBlocks) {
+                    BufferPool.getDefault().release(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Create the channel with block size, read ahead and cache configured in file system properties.
+     *
+     * @param fileSystem - The file system to read the ranges from.
+     * @param filePath   - The file path.
+     * @param size       - The size of the file.
+     * @return Returns the seekable channel over the file.
+     */
+    public static RangedReadChannel of(FileSystem fileSystem, String filePath, long size) {
+        Map<String, Object> properties = fileSystem.getConfiguration().getProperties();
+        return new RangedReadChannel(fileSystem, filePath, size,
+                PropertyUtil.getInt(properties, AppConstants.READ_BLOCK_SIZE, DEFAULT_BLOCK_SIZE),
+                PropertyUtil.getInt(properties, AppConstants.READ_AHEAD_BLOCKS, DEFAULT_READ_AHEAD_BLOCKS),
+                PropertyUtil.getInt(properties, AppConstants.READ_CACHE_BLOCKS, DEFAULT_CACHE_BLOCKS));
+    }
+
+    @Override
+    public synchronized int read(ByteBuffer dst) throws IOException {
+        ensureOpen();
+        if (position >= size) {
+            return -1;
+        }
+        int read = 0;
+        while (dst.hasRemaining() && position < size) {
+            long index = position / blockSize;
+            ByteBuffer block = getBlock(index);
+            int offset = (int) (position - index * blockSize);
+            int length = Math.min(dst.remaining(), block.limit() - offset);
+            dst.put(block.array(), offset, length);
+            position += length;
+            read += length;
+        }
+        return read;
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public synchronized long position() throws IOException {
+        ensureOpen();
+        return position;
+    }
+
+    @Override
+    public synchronized SeekableByteChannel position(long newPosition) throws IOException {
+        ensureOpen();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("The position cannot be negative.");
+        }
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        ensureOpen();
+        return size;
+    }
+
+    @Override
+    public SeekableByteChannel truncate(long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public synchronized void close() {
+        open = false;
+        blocks.values().forEach(BufferPool.getDefault()::release);
+        blocks.clear();
+    }
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (!isOpen()) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    /**
+     * Get the block from cache or fetch it, the next blocks are fetched in the same request when the block follows
+     * the previously fetched one.
+     *
+     * @param index - The block index.
+     * @return Returns the block content, the limit of the buffer is the block length.
+     * @throws IOException
+     */
+    private ByteBuffer getBlock(long index) throws IOException {
+        ByteBuffer block = blocks.get(index);
+        if (block != null) {
+            return block;
+        }
+        long lastIndex = (size - 1) / blockSize;
+        int count = index == lastBlock + 1 ? (int) Math.min(readAheadBlocks, lastIndex - index + 1) : 1;
+        long offset = index * blockSize;
+        long length = Math.min((long) count * blockSize, size - offset);
+        try (InputStream in = fileSystem.read(filePath, offset, length)) {
+            for (int i = 0; i < count; i++) {
+                ByteBuffer fetched = BufferPool.getDefault()
+                        .acquire((int) Math.min(blockSize, size - offset - (long) i * blockSize));
+                try {
+                    readFully(in, fetched.array(), fetched.limit());
+                } catch (IOException e) {
+                    BufferPool.getDefault().release(fetched);
+                    throw e;
+                }
+                blocks.put(index + i, fetched);
+                if (i == 0) {
+                    block = fetched;
+                }
+            }
+        } catch (FileSystemException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        lastBlock = index + count - 1;
+        return block;
+    }
+
+    private void readFully(InputStream in, byte[] block, int length) throws IOException {
+        int offset = 0;
+        while (offset < length) {
+            int read = in.read(block, offset, length - offset);
+            if (read < 0) {
+                throw new IOException(String.format("Unexpected end of file: %s at offset: %d", filePath, offset));
+            }
+            offset += read;
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.github.filesystem.model;
+
+import java.util.StringJoiner;
+
+/**
+ * The immutable change of a file detected by the directory watcher.
+ * e.g. kind = CREATED, path = folder/file.csv, file = the file information from listing (null for DELETED)
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public final class ChangeEvent {
+
+    /**
+     * The kind of change.
+     */
+    public enum Kind {
+        CREATED, MODIFIED, DELETED
+    }
+
+    private final Kind kind;
+    private final String path;
+    private final FileInfo file;
+
+    public ChangeEvent(Kind kind, String path, FileInfo file) {
+        this.kind = kind;
+        this.path = path;
+        this.file = file;
+    }
+
+    /**
+     * @return Returns the kind of change.
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return Returns the path of the changed file.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return Returns the file information from listing, null when the file is deleted.
+     */
+    public FileInfo getFile() {
+        return file;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", ChangeEvent.class.getSimpleName() + "[", "]")
+                .add("kind=" + kind)
+                .add("path='" + path + "'")
+                .add("file=" + file)
+                .toString();
+    }
+}
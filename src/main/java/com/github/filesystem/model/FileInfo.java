@@ -0,0 +1,93 @@
+package com.github.filesystem.model;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * The immutable file information returned by the listing of a directory.
+ * e.g. path = folder/file.csv, size = 1024, lastModified = 1602000000000, etag = S3 ETag (null for SFTP)
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public final class FileInfo {
+
+    private final String path;
+    private final long size;
+    private final long lastModified;
+    private final String etag;
+    private final boolean directory;
+
+    public FileInfo(String path, long size, long lastModified, String etag, boolean directory) {
+        this.path = path;
+        this.size = size;
+        this.lastModified = lastModified;
+        this.etag = etag;
+        this.directory = directory;
+    }
+
+    /**
+     * @return Returns the path of the file on file system.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return Returns the size of the file in bytes.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return Returns the last modified time in milliseconds since the epoch.
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return Returns the ETag or checksum of the file, null when file system does not provide one.
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * @return Returns true when the entry is a directory or folder.
+     */
+    public boolean isDirectory() {
+        return directory;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FileInfo)) {
+            return false;
+        }
+        FileInfo fileInfo = (FileInfo) o;
+        return size == fileInfo.size && lastModified == fileInfo.lastModified && directory == fileInfo.directory
+                && path.equals(fileInfo.path) && Objects.equals(etag, fileInfo.etag);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, size, lastModified, etag, directory);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", FileInfo.class.getSimpleName() + "[", "]")
+                .add("path='" + path + "'")
+                .add("size=" + size)
+                .add("lastModified=" + lastModified)
+                .add("etag='" + etag + "'")
+                .add("directory=" + directory)
+                .toString();
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.filesystem.nio;
+
+import com.github.filesystem.model.FileInfo;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The directory stream driven by the lazy listing of remote directory, the next page of listing is requested only
+ * when the previous one is consumed. The entries carry the file information of the listing.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+final class RemoteDirectoryStream implements DirectoryStream<Path> {
+
+    private final RemoteFileSystemProvider provider;
+    private final RemotePath directory;
+    private final Iterator<FileInfo> entries;
+    private final Filter<? super Path> filter;
+    private boolean iterated;
+    private volatile boolean open = true;
+
+    RemoteDirectoryStream(RemoteFileSystemProvider provider, RemotePath directory, Iterator<FileInfo> entries,
+                          Filter<? super Path> filter) {
+        this.provider = provider;
+        this.directory = directory;
+        this.entries = entries;
+        this.filter = filter;
+    }
+
+    @Override
+    public synchronized Iterator<Path> iterator() {
+        if (!open || iterated) {
+            throw new IllegalStateException("The directory stream is closed or already iterated.");
+        }
+        iterated = true;
+        return new Iterator<Path>() {
+            private Path next;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    while (next == null && open && entries.hasNext()) {
+                        RemotePath path = provider.toPath(directory.getFileSystem(), entries.next());
+                        if (!path.equals(directory) && (filter == null || filter.accept(path))) {
+                            next = path;
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new DirectoryIteratorException(e);
+                } catch (RuntimeException e) {
+                    throw new DirectoryIteratorException(new IOException(e.getMessage(), e));
+                }
+                return next != null;
+            }
+
+            @Override
+            public Path next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Path path = next;
+                next = null;
+                return path;
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+
+}
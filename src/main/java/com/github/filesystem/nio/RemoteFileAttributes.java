@@ -0,0 +1,69 @@
+package com.github.filesystem.nio;
+
+import com.github.filesystem.model.FileInfo;
+
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * The basic file attributes taken from the file information {@link FileInfo} of the listing. The remote file systems
+ * provide only last modified time, so it is used for the creation and last access time as well.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+final class RemoteFileAttributes implements BasicFileAttributes {
+
+    private final FileInfo fileInfo;
+
+    RemoteFileAttributes(FileInfo fileInfo) {
+        this.fileInfo = fileInfo;
+    }
+
+    @Override
+    public FileTime lastModifiedTime() {
+        return FileTime.fromMillis(fileInfo.getLastModified());
+    }
+
+    @Override
+    public FileTime lastAccessTime() {
+        return lastModifiedTime();
+    }
+
+    @Override
+    public FileTime creationTime() {
+        return lastModifiedTime();
+    }
+
+    @Override
+    public boolean isRegularFile() {
+        return !fileInfo.isDirectory();
+    }
+
+    @Override
+    public boolean isDirectory() {
+        return fileInfo.isDirectory();
+    }
+
+    @Override
+    public boolean isSymbolicLink() {
+        return false;
+    }
+
+    @Override
+    public boolean isOther() {
+        return false;
+    }
+
+    @Override
+    public long size() {
+        return fileInfo.getSize();
+    }
+
+    @Override
+    public Object fileKey() {
+        return fileInfo.getEtag();
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.github.filesystem.nio;
+
+import com.github.filesystem.util.GlobPattern;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.UserPrincipalLookupService;
+import java.util.Collections;
+import java.util.regex.Pattern;
+
+/**
+ * The java.nio file system backed by the library file system {@link com.github.filesystem.FileSystem}, one instance
+ * is created per bucket or SFTP server.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public final class RemoteFileSystem extends FileSystem {
+
+    private static final String GLOB_SYNTAX = "glob";
+    private static final String REGEX_SYNTAX = "regex";
+
+    private final RemoteFileSystemProvider provider;
+    private final String authority;
+    private final com.github.filesystem.FileSystem backend;
+    private volatile boolean open = true;
+
+    RemoteFileSystem(RemoteFileSystemProvider provider, String authority, com.github.filesystem.FileSystem backend) {
+        this.provider = provider;
+        this.authority = authority;
+        this.backend = backend;
+    }
+
+    /**
+     * @return Returns the authority of file system URI e.g. bucket name or user@host:port
+     */
+    public String getAuthority() {
+        return authority;
+    }
+
+    /**
+     * @return Returns the library file system performing the operations.
+     */
+    public com.github.filesystem.FileSystem getBackend() {
+        return backend;
+    }
+
+    @Override
+    public RemoteFileSystemProvider provider() {
+        return provider;
+    }
+
+    /**
+     * Close the file system and its backend, the backend releases its connections and threads.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        if (open) {
+            open = false;
+            provider.removeFileSystem(authority);
+            if (backend instanceof Closeable) {
+                ((Closeable) backend).close();
+            }
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    @Override
+    public String getSeparator() {
+        return "/";
+    }
+
+    @Override
+    public Iterable<Path> getRootDirectories() {
+        return Collections.singletonList(new RemotePath(this, getSeparator()));
+    }
+
+    @Override
+    public Iterable<FileStore> getFileStores() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public java.util.Set<String> supportedFileAttributeViews() {
+        return Collections.singleton("basic");
+    }
+
+    @Override
+    public Path getPath(String first, String... more) {
+        if (more.length == 0) {
+            return new RemotePath(this, first);
+        }
+        StringBuilder path = new StringBuilder(first);
+        for (String name : more) {
+            if (!name.isEmpty()) {
+                path.append(getSeparator()).append(name);
+            }
+        }
+        return new RemotePath(this, path.toString());
+    }
+
+    @Override
+    public PathMatcher getPathMatcher(String syntaxAndPattern) {
+        int index = syntaxAndPattern.indexOf(':');
+        if (index <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid syntax and pattern: %s", syntaxAndPattern));
+        }
+        String syntax = syntaxAndPattern.substring(0, index);
+        String pattern = syntaxAndPattern.substring(index + 1);
+        if (GLOB_SYNTAX.equalsIgnoreCase(syntax)) {
+            GlobPattern glob = GlobPattern.compile(pattern);
+            return path -> glob.matches(path.toString());
+        } else if (REGEX_SYNTAX.equalsIgnoreCase(syntax)) {
+            Pattern regex = Pattern.compile(pattern);
+            return path -> regex.matcher(path.toString()).matches();
+        }
+        throw new UnsupportedOperationException(String.format("The syntax: %s is not supported.", syntax));
+    }
+
+    @Override
+    public UserPrincipalLookupService getUserPrincipalLookupService() {
+        throw new UnsupportedOperationException("The user principal lookup is not supported.");
+    }
+
+    @Override
+    public WatchService newWatchService() {
+        throw new UnsupportedOperationException("The watch service is not supported.");
+    }
+
+}
@@ -0,0 +1,401 @@
+package com.github.filesystem.nio;
+
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.io.AbortableOutputStream;
+import com.github.filesystem.io.BufferPool;
+import com.github.filesystem.model.FileInfo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.FileAttributeView;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.spi.FileSystemProvider;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The java.nio file system provider backed by the library file systems {@link com.github.filesystem.FileSystem}.
+ * The files are read with seekable channels of ranged reads, the directories are streamed from the paginated
+ * listings and the basic attributes are taken from the listing metadata, so no file is staged on local disk.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public abstract class RemoteFileSystemProvider extends FileSystemProvider {
+
+    private static final String BASIC_VIEW = "basic";
+
+    private final Map<String, RemoteFileSystem> fileSystems = new ConcurrentHashMap<>();
+
+    /**
+     * Create and configure the library file system for the given URI.
+     *
+     * @param uri - The file system URI.
+     * @param env - The file system properties e.g. credentials.
+     * @return Returns the configured file system.
+     * @throws FileSystemException
+     */
+    protected abstract com.github.filesystem.FileSystem createBackend(URI uri, Map<String, ?> env)
+            throws FileSystemException;
+
+    /**
+     * List the entries of the given directory.
+     *
+     * @param fileSystem - The file system.
+     * @param directory  - The directory path.
+     * @return Returns the iterator of file information of the directory entries.
+     * @throws FileSystemException
+     */
+    protected abstract Iterator<FileInfo> listDirectory(RemoteFileSystem fileSystem, RemotePath directory)
+            throws FileSystemException;
+
+    /**
+     * Find the file information of the given path from the listing.
+     *
+     * @param fileSystem - The file system.
+     * @param path       - The path.
+     * @return Returns the file information of the path or null when the path does not exist.
+     * @throws FileSystemException
+     */
+    protected abstract FileInfo lookup(RemoteFileSystem fileSystem, RemotePath path) throws FileSystemException;
+
+    /**
+     * @param path - The path.
+     * @return Returns the file key or path used by the library file system.
+     */
+    protected abstract String toKey(RemotePath path);
+
+    /**
+     * @param fileSystem - The file system.
+     * @param fileInfo   - The file information of the listing.
+     * @return Returns the path of the listed file carrying its file information.
+     */
+    protected abstract RemotePath toPath(RemoteFileSystem fileSystem, FileInfo fileInfo);
+
+    /**
+     * @return Returns true when the copy within one file system is done by the server, otherwise the file is streamed
+     * from source to target.
+     */
+    protected boolean supportsServerSideCopy() {
+        return false;
+    }
+
+    @Override
+    public FileSystem newFileSystem(URI uri, Map<String, ?> env) throws IOException {
+        String authority = uri.getAuthority();
+        synchronized (fileSystems) {
+            if (fileSystems.containsKey(authority)) {
+                throw new FileSystemAlreadyExistsException(authority);
+            }
+            try {
+                RemoteFileSystem fileSystem = new RemoteFileSystem(this, authority, createBackend(uri, env));
+                fileSystems.put(authority, fileSystem);
+                return fileSystem;
+            } catch (FileSystemException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public FileSystem getFileSystem(URI uri) {
+        RemoteFileSystem fileSystem = fileSystems.get(uri.getAuthority());
+        if (fileSystem == null) {
+            throw new FileSystemNotFoundException(uri.getAuthority());
+        }
+        return fileSystem;
+    }
+
+    @Override
+    public Path getPath(URI uri) {
+        return getFileSystem(uri).getPath(uri.getPath());
+    }
+
+    @Override
+    public SeekableByteChannel newByteChannel(Path path, Set<? extends OpenOption> options,
+                                              FileAttribute<?>... attrs) throws IOException {
+        RemotePath remotePath = toRemotePath(path);
+        if (options.contains(StandardOpenOption.WRITE) || options.contains(StandardOpenOption.APPEND)) {
+            return new RemoteWriteChannel(openOutputStream(remotePath, options));
+        }
+        try {
+            return remotePath.getFileSystem().getBackend().openChannel(toKey(remotePath));
+        } catch (FileSystemException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public InputStream newInputStream(Path path, OpenOption... options) throws IOException {
+        RemotePath remotePath = toRemotePath(path);
+        try {
+            return remotePath.getFileSystem().getBackend().read(toKey(remotePath));
+        } catch (FileSystemException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public OutputStream newOutputStream(Path path, OpenOption... options) throws IOException {
+        return openOutputStream(toRemotePath(path), new HashSet<>(Arrays.asList(options)));
+    }
+
+    @Override
+    public DirectoryStream<Path> newDirectoryStream(Path dir, DirectoryStream.Filter<? super Path> filter)
+            throws IOException {
+        RemotePath directory = toRemotePath(dir);
+        try {
+            return new RemoteDirectoryStream(this, directory, listDirectory(directory.getFileSystem(), directory),
+                    filter);
+        } catch (FileSystemException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void createDirectory(Path dir, FileAttribute<?>... attrs) throws IOException {
+        RemotePath directory = toRemotePath(dir);
+        try {
+            directory.getFileSystem().getBackend().createFolder(toKey(directory));
+        } catch (FileSystemException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void delete(Path path) throws IOException {
+        RemotePath remotePath = toRemotePath(path);
+        FileInfo fileInfo = getFileInfo(remotePath);
+        try {
+            remotePath.getFileSystem().getBackend().deleteFile(fileInfo.getPath());
+        } catch (FileSystemException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void copy(Path source, Path target, CopyOption... options) throws IOException {
+        RemotePath sourcePath = toRemotePath(source);
+        RemotePath targetPath = toRemotePath(target);
+        checkTarget(targetPath, options);
+        if (sourcePath.getFileSystem() == targetPath.getFileSystem() && supportsServerSideCopy()) {
+            try {
+                sourcePath.getFileSystem().getBackend().copyFile(toKey(sourcePath), toKey(targetPath));
+            } catch (FileSystemException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+            return;
+        }
+        // the files on different buckets or servers, or on servers without remote copy, are streamed from source to
+        // target without local staging
+        try (InputStream in = newInputStream(sourcePath)) {
+            AbortableOutputStream out = openOutputStream(targetPath, Collections.emptySet());
+            try {
+                BufferPool.getDefault().copy(in, out);
+            } catch (IOException | RuntimeException e) {
+                out.abort();
+                throw e;
+            }
+            out.close();
+        }
+    }
+
+    @Override
+    public void move(Path source, Path target, CopyOption... options) throws IOException {
+        if (Arrays.asList(options).contains(StandardCopyOption.ATOMIC_MOVE)) {
+            throw new AtomicMoveNotSupportedException(source.toString(), target.toString(),
+                    "The remote file system does not support atomic move.");
+        }
+        copy(source, target, options);
+        delete(source);
+    }
+
+    @Override
+    public boolean isSameFile(Path path, Path path2) {
+        return path.equals(path2);
+    }
+
+    @Override
+    public boolean isHidden(Path path) {
+        Path fileName = path.getFileName();
+        return fileName != null && fileName.toString().startsWith(".");
+    }
+
+    @Override
+    public FileStore getFileStore(Path path) {
+        throw new UnsupportedOperationException("The file store is not supported.");
+    }
+
+    @Override
+    public void checkAccess(Path path, AccessMode... modes) throws IOException {
+        getFileInfo(toRemotePath(path));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V extends FileAttributeView> V getFileAttributeView(Path path, Class<V> type, LinkOption... options) {
+        if (type != BasicFileAttributeView.class) {
+            return null;
+        }
+        final RemotePath remotePath = toRemotePath(path);
+        return (V) new BasicFileAttributeView() {
+            @Override
+            public String name() {
+                return BASIC_VIEW;
+            }
+
+            @Override
+            public BasicFileAttributes readAttributes() throws IOException {
+                return new RemoteFileAttributes(getFileInfo(remotePath));
+            }
+
+            @Override
+            public void setTimes(FileTime lastModifiedTime, FileTime lastAccessTime, FileTime createTime) {
+                throw new UnsupportedOperationException("The file times cannot be changed.");
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A extends BasicFileAttributes> A readAttributes(Path path, Class<A> type, LinkOption... options)
+            throws IOException {
+        if (!type.isAssignableFrom(RemoteFileAttributes.class)) {
+            throw new UnsupportedOperationException(String.format("The attributes: %s are not supported.", type));
+        }
+        return (A) new RemoteFileAttributes(getFileInfo(toRemotePath(path)));
+    }
+
+    @Override
+    public Map<String, Object> readAttributes(Path path, String attributes, LinkOption... options)
+            throws IOException {
+        String names = attributes;
+        int index = attributes.indexOf(':');
+        if (index >= 0) {
+            if (!BASIC_VIEW.equals(attributes.substring(0, index))) {
+                throw new UnsupportedOperationException(String.format("The view: %s is not supported.", attributes));
+            }
+            names = attributes.substring(index + 1);
+        }
+        BasicFileAttributes basic = readAttributes(path, BasicFileAttributes.class, options);
+        Map<String, Object> all = new HashMap<>();
+        all.put("lastModifiedTime", basic.lastModifiedTime());
+        all.put("lastAccessTime", basic.lastAccessTime());
+        all.put("creationTime", basic.creationTime());
+        all.put("size", basic.size());
+        all.put("isRegularFile", basic.isRegularFile());
+        all.put("isDirectory", basic.isDirectory());
+        all.put("isSymbolicLink", basic.isSymbolicLink());
+        all.put("isOther", basic.isOther());
+        all.put("fileKey", basic.fileKey());
+        if ("*".equals(names)) {
+            return all;
+        }
+        Map<String, Object> selected = new HashMap<>();
+        for (String name : names.split(",")) {
+            if (!all.containsKey(name)) {
+                throw new IllegalArgumentException(String.format("The attribute: %s is not supported.", name));
+            }
+            selected.put(name, all.get(name));
+        }
+        return selected;
+    }
+
+    @Override
+    public void setAttribute(Path path, String attribute, Object value, LinkOption... options) {
+        throw new UnsupportedOperationException("The file attributes cannot be changed.");
+    }
+
+    /**
+     * Open the output stream to write the remote file, appending to the remote file is not supported.
+     *
+     * @param path    - The path.
+     * @param options - The open options.
+     * @return Returns the output stream, closing it commits the file.
+     * @throws IOException
+     */
+    AbortableOutputStream openOutputStream(RemotePath path, Set<? extends OpenOption> options) throws IOException {
+        if (options.contains(StandardOpenOption.APPEND)) {
+            throw new UnsupportedOperationException("The remote file cannot be appended.");
+        }
+        if (options.contains(StandardOpenOption.CREATE_NEW)) {
+            checkTarget(path);
+        }
+        try {
+            return path.getFileSystem().getBackend().openOutputStream(toKey(path));
+        } catch (FileSystemException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Remove the closed file system.
+     *
+     * @param authority - The authority of file system URI.
+     */
+    void removeFileSystem(String authority) {
+        fileSystems.remove(authority);
+    }
+
+    /**
+     * Get the file information carried by the listed path or look it up from the listing.
+     *
+     * @param path - The path.
+     * @return Returns the file information.
+     * @throws IOException
+     */
+    FileInfo getFileInfo(RemotePath path) throws IOException {
+        if (path.getFileInfo() != null) {
+            return path.getFileInfo();
+        }
+        try {
+            FileInfo fileInfo = lookup(path.getFileSystem(), path);
+            if (fileInfo == null) {
+                throw new NoSuchFileException(path.toString());
+            }
+            return fileInfo;
+        } catch (FileSystemException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Check the target can be written with the given copy options.
+     *
+     * @param target  - The target path.
+     * @param options - The copy options.
+     * @throws IOException
+     */
+    void checkTarget(RemotePath target, CopyOption... options) throws IOException {
+        if (Arrays.asList(options).contains(StandardCopyOption.REPLACE_EXISTING)) {
+            return;
+        }
+        try {
+            if (lookup(target.getFileSystem(), target) != null) {
+                throw new FileAlreadyExistsException(target.toString());
+            }
+        } catch (FileSystemException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param path - The path.
+     * @return Returns the remote path of this provider.
+     */
+    RemotePath toRemotePath(Path path) {
+        if (!(path instanceof RemotePath) || path.getFileSystem().provider() != this) {
+            throw new ProviderMismatchException();
+        }
+        return (RemotePath) path;
+    }
+
+}
@@ -0,0 +1,312 @@
+package com.github.filesystem.nio;
+
+import com.github.filesystem.model.FileInfo;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The path on remote file system, the names are separated by /. The paths returned by directory streams carry the
+ * file information {@link FileInfo} of the listing, so reading their attributes does not make any remote call.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public final class RemotePath implements Path {
+
+    private static final String SEPARATOR = "/";
+
+    private final RemoteFileSystem fileSystem;
+    private final String path;
+    private final String[] names;
+    private final FileInfo fileInfo;
+
+    RemotePath(RemoteFileSystem fileSystem, String path) {
+        this(fileSystem, path, null);
+    }
+
+    RemotePath(RemoteFileSystem fileSystem, String path, FileInfo fileInfo) {
+        this.fileSystem = fileSystem;
+        this.path = normalizeSeparators(path);
+        this.names = splitNames(this.path);
+        this.fileInfo = fileInfo;
+    }
+
+    /**
+     * @return Returns the file information of the listing this path was found with, null when path is not listed.
+     */
+    FileInfo getFileInfo() {
+        return fileInfo;
+    }
+
+    @Override
+    public RemoteFileSystem getFileSystem() {
+        return fileSystem;
+    }
+
+    @Override
+    public boolean isAbsolute() {
+        return path.startsWith(SEPARATOR);
+    }
+
+    @Override
+    public Path getRoot() {
+        return isAbsolute() ? new RemotePath(fileSystem, SEPARATOR) : null;
+    }
+
+    @Override
+    public Path getFileName() {
+        return names.length == 0 ? null : new RemotePath(fileSystem, names[names.length - 1]);
+    }
+
+    @Override
+    public Path getParent() {
+        if (names.length == 0 || (names.length == 1 && !isAbsolute())) {
+            return null;
+        }
+        int index = path.lastIndexOf(SEPARATOR);
+        return new RemotePath(fileSystem, index == 0 ? SEPARATOR : path.substring(0, index));
+    }
+
+    @Override
+    public int getNameCount() {
+        return names.length;
+    }
+
+    @Override
+    public Path getName(int index) {
+        if (index < 0 || index >= names.length) {
+            throw new IllegalArgumentException(String.format("Invalid name index: %d", index));
+        }
+        return new RemotePath(fileSystem, names[index]);
+    }
+
+    @Override
+    public Path subpath(int beginIndex, int endIndex) {
+        if (beginIndex < 0 || beginIndex >= endIndex || endIndex > names.length) {
+            throw new IllegalArgumentException(String.format("Invalid sub path: %d - %d", beginIndex, endIndex));
+        }
+        return new RemotePath(fileSystem, String.join(SEPARATOR, Arrays.copyOfRange(names, beginIndex, endIndex)));
+    }
+
+    @Override
+    public boolean startsWith(Path other) {
+        if (!(other instanceof RemotePath) || other.getFileSystem() != fileSystem) {
+            return false;
+        }
+        RemotePath that = (RemotePath) other;
+        if (that.isAbsolute() != isAbsolute() || that.names.length > names.length) {
+            return false;
+        }
+        for (int i = 0; i < that.names.length; i++) {
+            if (!that.names[i].equals(names[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean startsWith(String other) {
+        return startsWith(new RemotePath(fileSystem, other));
+    }
+
+    @Override
+    public boolean endsWith(Path other) {
+        if (!(other instanceof RemotePath) || other.getFileSystem() != fileSystem) {
+            return false;
+        }
+        RemotePath that = (RemotePath) other;
+        if (that.isAbsolute()) {
+            return equals(that);
+        }
+        if (that.names.length > names.length) {
+            return false;
+        }
+        int offset = names.length - that.names.length;
+        for (int i = 0; i < that.names.length; i++) {
+            if (!that.names[i].equals(names[offset + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endsWith(String other) {
+        return endsWith(new RemotePath(fileSystem, other));
+    }
+
+    @Override
+    public Path normalize() {
+        List<String> normalized = new ArrayList<>();
+        for (String name : names) {
+            if (".".equals(name)) {
+                continue;
+            }
+            if ("..".equals(name) && !normalized.isEmpty() && !"..".equals(normalized.get(normalized.size() - 1))) {
+                normalized.remove(normalized.size() - 1);
+            } else if (!("..".equals(name) && isAbsolute())) {
+                normalized.add(name);
+            }
+        }
+        String joined = String.join(SEPARATOR, normalized);
+        return new RemotePath(fileSystem, isAbsolute() ? SEPARATOR + joined : joined);
+    }
+
+    @Override
+    public Path resolve(Path other) {
+        RemotePath that = toRemotePath(other);
+        if (that.isAbsolute() || path.isEmpty()) {
+            return that;
+        }
+        if (that.path.isEmpty()) {
+            return this;
+        }
+        return new RemotePath(fileSystem, path + SEPARATOR + that.path);
+    }
+
+    @Override
+    public Path resolve(String other) {
+        return resolve(new RemotePath(fileSystem, other));
+    }
+
+    @Override
+    public Path resolveSibling(Path other) {
+        Path parent = getParent();
+        return parent == null ? other : parent.resolve(other);
+    }
+
+    @Override
+    public Path resolveSibling(String other) {
+        return resolveSibling(new RemotePath(fileSystem, other));
+    }
+
+    @Override
+    public Path relativize(Path other) {
+        RemotePath that = toRemotePath(other);
+        if (that.isAbsolute() != isAbsolute()) {
+            throw new IllegalArgumentException("The paths must be both absolute or both relative.");
+        }
+        int common = 0;
+        while (common < names.length && common < that.names.length && names[common].equals(that.names[common])) {
+            common++;
+        }
+        List<String> relative = new ArrayList<>();
+        for (int i = common; i < names.length; i++) {
+            relative.add("..");
+        }
+        relative.addAll(Arrays.asList(that.names).subList(common, that.names.length));
+        return new RemotePath(fileSystem, String.join(SEPARATOR, relative));
+    }
+
+    @Override
+    public URI toUri() {
+        try {
+            return new URI(fileSystem.provider().getScheme(), fileSystem.getAuthority(),
+                    ((RemotePath) toAbsolutePath()).path, null, null);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Path toAbsolutePath() {
+        return isAbsolute() ? this : new RemotePath(fileSystem, SEPARATOR + path, fileInfo);
+    }
+
+    @Override
+    public Path toRealPath(LinkOption... options) {
+        return toAbsolutePath().normalize();
+    }
+
+    @Override
+    public File toFile() {
+        throw new UnsupportedOperationException("The remote path cannot be converted to local file.");
+    }
+
+    @Override
+    public WatchKey register(WatchService watcher, WatchEvent.Kind<?>[] events, WatchEvent.Modifier... modifiers) {
+        throw new UnsupportedOperationException("The remote path cannot be registered with watch service.");
+    }
+
+    @Override
+    public WatchKey register(WatchService watcher, WatchEvent.Kind<?>... events) {
+        throw new UnsupportedOperationException("The remote path cannot be registered with watch service.");
+    }
+
+    @Override
+    public Iterator<Path> iterator() {
+        List<Path> paths = new ArrayList<>(names.length);
+        for (String name : names) {
+            paths.add(new RemotePath(fileSystem, name));
+        }
+        return paths.iterator();
+    }
+
+    @Override
+    public int compareTo(Path other) {
+        return path.compareTo(toRemotePath(other).path);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RemotePath)) {
+            return false;
+        }
+        RemotePath that = (RemotePath) o;
+        return fileSystem == that.fileSystem && path.equals(that.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private RemotePath toRemotePath(Path other) {
+        if (!(other instanceof RemotePath) || other.getFileSystem() != fileSystem) {
+            throw new ProviderMismatchException();
+        }
+        return (RemotePath) other;
+    }
+
+    /**
+     * Collapse the repeated separators and remove the trailing separator, the root path stays /.
+     */
+    private static String normalizeSeparators(String path) {
+        StringBuilder builder = new StringBuilder(path.length());
+        char previous = 0;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c != '/' || previous != '/') {
+                builder.append(c);
+            }
+            previous = c;
+        }
+        if (builder.length() > 1 && builder.charAt(builder.length() - 1) == '/') {
+            builder.setLength(builder.length() - 1);
+        }
+        return builder.toString();
+    }
+
+    private static String[] splitNames(String path) {
+        String relative = path.startsWith(SEPARATOR) ? path.substring(1) : path;
+        return relative.isEmpty() ? new String[0] : relative.split(SEPARATOR);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.github.filesystem.nio;
+
+import com.github.filesystem.io.AbortableOutputStream;
+import com.github.filesystem.io.BufferPool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonReadableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * The write only channel over the output stream of remote file, the file can be written only sequentially.
+ * Closing the channel commits the file.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+final class RemoteWriteChannel implements SeekableByteChannel {
+
+    private final AbortableOutputStream out;
+    private long position;
+    private boolean open = true;
+
+    RemoteWriteChannel(AbortableOutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) {
+        throw new NonReadableChannelException();
+    }
+
+    @Override
+    public synchronized int write(ByteBuffer src) throws IOException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+        int length = src.remaining();
+        if (src.hasArray()) {
+            out.write(src.array(), src.arrayOffset() + src.position(), length);
+            src.position(src.limit());
+        } else {
+            ByteBuffer buffer = BufferPool.getDefault().acquire(length);
+            try {
+                src.get(buffer.array(), 0, length);
+                out.write(buffer.array(), 0, length);
+            } finally {
+                BufferPool.getDefault().release(buffer);
+            }
+        }
+        position += length;
+        return length;
+    }
+
+    @Override
+    public synchronized long position() {
+        return position;
+    }
+
+    @Override
+    public synchronized SeekableByteChannel position(long newPosition) {
+        if (newPosition != position) {
+            throw new UnsupportedOperationException("The remote file can be written only sequentially.");
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized long size() {
+        return position;
+    }
+
+    @Override
+    public SeekableByteChannel truncate(long size) {
+        throw new UnsupportedOperationException("The remote file cannot be truncated.");
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (open) {
+            open = false;
+            out.close();
+        }
+    }
+
+}
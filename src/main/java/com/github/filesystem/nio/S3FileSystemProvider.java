@@ -0,0 +1,72 @@
+package com.github.filesystem.nio;
+
+import com.github.filesystem.client.AwsS3Client;
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.factory.FileSystemFactory;
+import com.github.filesystem.model.Configuration;
+import com.github.filesystem.model.FileInfo;
+import com.github.filesystem.util.AppConstants;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * The java.nio file system provider for s3://bucket-name/key URIs. The environment of new file system takes the
+ * S3 properties e.g. REGION, S3_ACCESS_KEY and S3_SECRET_KEY, the bucket name is taken from URI.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public class S3FileSystemProvider extends RemoteFileSystemProvider {
+
+    @Override
+    public String getScheme() {
+        return "s3";
+    }
+
+    @Override
+    protected com.github.filesystem.FileSystem createBackend(URI uri, Map<String, ?> env) throws FileSystemException {
+        Map<String, Object> properties = new HashMap<>(env);
+        properties.put(AppConstants.S3_BUCKET_NAME, uri.getAuthority());
+        return FileSystemFactory.getFileSystem(new Configuration(AppConstants.STR_S3, properties));
+    }
+
+    @Override
+    protected Iterator<FileInfo> listDirectory(RemoteFileSystem fileSystem, RemotePath directory) {
+        String key = toKey(directory);
+        return getClient(fileSystem).iterateFileInfo(key.isEmpty() ? key : key + AppConstants.CHAR_FS, false);
+    }
+
+    @Override
+    protected FileInfo lookup(RemoteFileSystem fileSystem, RemotePath path) throws FileSystemException {
+        String key = toKey(path);
+        if (key.isEmpty()) {
+            return new FileInfo(key, 0L, 0L, null, true);
+        }
+        return getClient(fileSystem).getFileInfo(key);
+    }
+
+    @Override
+    protected boolean supportsServerSideCopy() {
+        return true;
+    }
+
+    @Override
+    protected String toKey(RemotePath path) {
+        String key = path.toString();
+        return key.startsWith(AppConstants.CHAR_FS.toString()) ? key.substring(1) : key;
+    }
+
+    @Override
+    protected RemotePath toPath(RemoteFileSystem fileSystem, FileInfo fileInfo) {
+        return new RemotePath(fileSystem, AppConstants.CHAR_FS + fileInfo.getPath(), fileInfo);
+    }
+
+    private static AwsS3Client getClient(RemoteFileSystem fileSystem) {
+        return (AwsS3Client) fileSystem.getBackend();
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.github.filesystem.nio;
+
+import com.github.filesystem.client.SftpClient;
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.factory.FileSystemFactory;
+import com.github.filesystem.model.Configuration;
+import com.github.filesystem.model.FileInfo;
+import com.github.filesystem.util.AppConstants;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * The java.nio file system provider for sftp://username@hostname:port/path URIs. The host, port and username are
+ * taken from URI, the environment of new file system takes the other SFTP properties e.g. SFTP_PASSWORD.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public class SftpFileSystemProvider extends RemoteFileSystemProvider {
+
+    /**
+     * The default SFTP port.
+     */
+    public static final int DEFAULT_PORT = 22;
+
+    private static final String CURRENT_DIRECTORY = ".";
+
+    @Override
+    public String getScheme() {
+        return "sftp";
+    }
+
+    @Override
+    protected com.github.filesystem.FileSystem createBackend(URI uri, Map<String, ?> env) throws FileSystemException {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(AppConstants.SFTP_HOSTNAME, uri.getHost());
+        properties.put(AppConstants.SFTP_PORT, uri.getPort() > 0 ? uri.getPort() : DEFAULT_PORT);
+        if (uri.getUserInfo() != null) {
+            String[] userInfo = uri.getUserInfo().split(":", 2);
+            properties.put(AppConstants.SFTP_USERNAME, userInfo[0]);
+            if (userInfo.length > 1) {
+                properties.put(AppConstants.SFTP_PASSWORD, userInfo[1]);
+            }
+        }
+        properties.putAll(env);
+        return FileSystemFactory.getFileSystem(new Configuration(AppConstants.STR_SFTP, properties));
+    }
+
+    @Override
+    protected Iterator<FileInfo> listDirectory(RemoteFileSystem fileSystem, RemotePath directory)
+            throws FileSystemException {
+        return fileSystem.getBackend().getListOfFileInfo(toKey(directory)).iterator();
+    }
+
+    @Override
+    protected FileInfo lookup(RemoteFileSystem fileSystem, RemotePath path) throws FileSystemException {
+        Path fileName = path.getFileName();
+        if (fileName == null) {
+            return new FileInfo(toKey(path), 0L, 0L, null, true);
+        }
+        return getClient(fileSystem).getFileInfo(toKey(path));
+    }
+
+    @Override
+    protected String toKey(RemotePath path) {
+        String key = path.toString();
+        return key.isEmpty() ? CURRENT_DIRECTORY : key;
+    }
+
+    @Override
+    protected RemotePath toPath(RemoteFileSystem fileSystem, FileInfo fileInfo) {
+        String filePath = fileInfo.getPath();
+        if (filePath.startsWith(CURRENT_DIRECTORY + AppConstants.CHAR_FS)) {
+            filePath = filePath.substring(2);
+        }
+        return new RemotePath(fileSystem, filePath, fileInfo);
+    }
+
+    private static SftpClient getClient(RemoteFileSystem fileSystem) {
+        return (SftpClient) fileSystem.getBackend();
+    }
+
+}
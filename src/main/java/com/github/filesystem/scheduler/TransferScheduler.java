@@ -0,0 +1,306 @@
+package com.github.filesystem.scheduler;
+
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.util.ErrorUtil;
+import com.github.filesystem.util.ExceptionConstants;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The scheduler of transfers on one backend. At most the configured number of transfers run at once, the callers
+ * above it wait in the queue of their priority class. The waiting transfers are started strictly by priority, and
+ * within a priority by weighted fair queuing across the tenants, so a tenant submitting many transfers does not delay
+ * the other tenants of the same priority. The slots reserved for interactive transfers are never taken by the lower
+ * priorities, so the long bulk transfers can not occupy all the slots.
+ * <p>
+ * The transfer runs on the caller thread, the scheduler only decides when it may start. Every priority has a bounded
+ * queue, the caller arriving at the full queue is rejected or waits for the room in the queue.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public class TransferScheduler {
+
+    /**
+     * The priority class of transfer.
+     */
+    public enum Priority {
+        INTERACTIVE, NORMAL, BULK
+    }
+
+    /**
+     * The behaviour of the caller arriving at the full queue.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The transfer is rejected with {@link FileSystemException}.
+         */
+        REJECT,
+        /**
+         * The caller waits for the room in the queue up to the admission timeout.
+         */
+        BLOCK
+    }
+
+    /**
+     * The default number of transfers waiting in the queue of a priority.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    /**
+     * The default time in milliseconds the caller waits for the room in the full queue.
+     */
+    public static final long DEFAULT_ADMISSION_TIMEOUT = 30 * 1000;
+
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final int maxConcurrency;
+    private final int reservedInteractive;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long admissionTimeout;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition room = lock.newCondition();
+    private final List<PriorityQueue<Request>> queues = new ArrayList<>();
+    private final double[] virtualTime = new double[PRIORITIES.length];
+    private final List<Map<String, Double>> tenantFinish = new ArrayList<>();
+    private final Map<Priority, TransferStats> stats = new EnumMap<>(Priority.class);
+    private int running;
+    private long sequence;
+
+    /**
+     * @param maxConcurrency - The number of transfers running at once on the backend.
+     */
+    public TransferScheduler(int maxConcurrency) {
+        this(maxConcurrency, maxConcurrency > 1 ? 1 : 0, DEFAULT_QUEUE_CAPACITY, OverflowPolicy.BLOCK,
+                DEFAULT_ADMISSION_TIMEOUT);
+    }
+
+    /**
+     * @param maxConcurrency      - The number of transfers running at once on the backend.
+     * @param reservedInteractive - The number of slots only the interactive transfers may take.
+     * @param queueCapacity       - The number of transfers waiting in the queue of a priority.
+     * @param overflowPolicy      - The behaviour of the caller arriving at the full queue.
+     * @param admissionTimeout    - The time in milliseconds the caller waits for the room in the full queue.
+     */
+    public TransferScheduler(int maxConcurrency, int reservedInteractive, int queueCapacity,
+                             OverflowPolicy overflowPolicy, long admissionTimeout) {
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.reservedInteractive = Math.max(0, Math.min(reservedInteractive, this.maxConcurrency - 1));
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.admissionTimeout = admissionTimeout;
+        for (Priority priority : PRIORITIES) {
+            queues.add(new PriorityQueue<>());
+            tenantFinish.add(new HashMap<>());
+            stats.put(priority, new TransferStats());
+        }
+    }
+
+    /**
+     * This method can be used to wait for the slot to start the transfer, the slot must be released with
+     * {@link #release(Ticket)} when the transfer ends.
+     *
+     * @param tenant   - The tenant key the fairness is shared by.
+     * @param priority - The priority class.
+     * @param weight   - The share of the tenant within its priority, relative to the other tenants.
+     * @return Returns the ticket of the started transfer.
+     * @throws FileSystemException
+     */
+    public Ticket acquire(String tenant, Priority priority, double weight) throws FileSystemException {
+        long enqueued = System.nanoTime();
+        int level = priority.ordinal();
+        PriorityQueue<Request> queue = queues.get(level);
+        Request request = null;
+        lock.lock();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(admissionTimeout);
+            while (queue.size() >= queueCapacity) {
+                long remaining = deadline - System.nanoTime();
+                if (overflowPolicy == OverflowPolicy.REJECT || remaining <= 0) {
+                    stats.get(priority).recordRejection();
+                    ErrorUtil.fileSystemException(String.format(ExceptionConstants.STR_TRANSFER_REJECTED, priority));
+                }
+                room.awaitNanos(remaining);
+            }
+            Map<String, Double> finish = tenantFinish.get(level);
+            double start = Math.max(virtualTime[level], finish.getOrDefault(tenant, 0d));
+            request = new Request(start, start + 1 / Math.max(weight, 1e-6), sequence++, lock.newCondition());
+            finish.put(tenant, request.finish);
+            queue.add(request);
+            dispatch();
+            while (!request.started) {
+                request.condition.await();
+            }
+        } catch (InterruptedException e) {
+            cancel(level, request);
+            Thread.currentThread().interrupt();
+            ErrorUtil.fileSystemException(ExceptionConstants.STR_INTERRUPTED_EXCEPTION, e);
+            return null;
+        } finally {
+            lock.unlock();
+        }
+        long started = System.nanoTime();
+        stats.get(priority).recordStart(started - enqueued);
+        return new Ticket(priority, started);
+    }
+
+    /**
+     * This method can be used to release the slot of the ended transfer, releasing the ticket again has no effect.
+     *
+     * @param ticket - The ticket of the transfer.
+     */
+    public void release(Ticket ticket) {
+        if (ticket == null || !ticket.released.compareAndSet(false, true)) {
+            return;
+        }
+        stats.get(ticket.priority).recordCompletion(System.nanoTime() - ticket.started);
+        lock.lock();
+        try {
+            running--;
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param priority - The priority class.
+     * @return Returns the statistics of the transfers of the priority.
+     */
+    public TransferStats getStats(Priority priority) {
+        return stats.get(priority);
+    }
+
+    /**
+     * @param priority - The priority class.
+     * @return Returns the number of transfers waiting in the queue of the priority.
+     */
+    public int getQueueLength(Priority priority) {
+        lock.lock();
+        try {
+            return queues.get(priority.ordinal()).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Returns the number of running transfers.
+     */
+    public int getRunningCount() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Start the waiting transfers while there are free slots, the caller holds the lock.
+     */
+    private void dispatch() {
+        boolean dispatched = false;
+        for (int level = 0; level < PRIORITIES.length; level++) {
+            PriorityQueue<Request> queue = queues.get(level);
+            int limit = level == Priority.INTERACTIVE.ordinal() ? maxConcurrency : maxConcurrency - reservedInteractive;
+            while (!queue.isEmpty() && running < limit) {
+                Request request = queue.poll();
+                virtualTime[level] = request.start;
+                request.started = true;
+                request.condition.signal();
+                running++;
+                dispatched = true;
+            }
+            if (!queue.isEmpty()) {
+                // the lower priorities wait until this one is drained
+                break;
+            }
+        }
+        if (dispatched) {
+            room.signalAll();
+            pruneTenants();
+        }
+    }
+
+    /**
+     * Reset the virtual time and finish tags of the drained priorities, so the tenant map does not grow with the
+     * tenants that are gone.
+     */
+    private void pruneTenants() {
+        for (int level = 0; level < PRIORITIES.length; level++) {
+            if (queues.get(level).isEmpty()) {
+                tenantFinish.get(level).clear();
+                virtualTime[level] = 0;
+            }
+        }
+    }
+
+    /**
+     * Remove the interrupted caller from queue, or give back its slot when it was started meanwhile, the caller holds
+     * the lock.
+     */
+    private void cancel(int level, Request request) {
+        if (request == null) {
+            return;
+        }
+        if (request.started) {
+            running--;
+            dispatch();
+        } else if (queues.get(level).remove(request)) {
+            room.signalAll();
+        }
+    }
+
+    /**
+     * The started transfer holding a slot.
+     */
+    public static final class Ticket {
+        private final Priority priority;
+        private final long started;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Ticket(Priority priority, long started) {
+            this.priority = priority;
+            this.started = started;
+        }
+
+        /**
+         * @return Returns the priority class of the transfer.
+         */
+        public Priority getPriority() {
+            return priority;
+        }
+    }
+
+    /**
+     * The waiting transfer ordered by its virtual finish time, then by arrival.
+     */
+    private static final class Request implements Comparable<Request> {
+        private final double start;
+        private final double finish;
+        private final long order;
+        private final Condition condition;
+        private boolean started;
+
+        Request(double start, double finish, long order, Condition condition) {
+            this.start = start;
+            this.finish = finish;
+            this.order = order;
+            this.condition = condition;
+        }
+
+        @Override
+        public int compareTo(Request other) {
+            int compare = Double.compare(finish, other.finish);
+            return compare != 0 ? compare : Long.compare(order, other.order);
+        }
+    }
+
+}
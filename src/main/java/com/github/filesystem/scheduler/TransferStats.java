@@ -0,0 +1,106 @@
+package com.github.filesystem.scheduler;
+
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics of the transfers of one priority class. The time waiting in queue is reported separately from the
+ * time the transfer took once it was started, so the queueing delay of a class is visible on its own.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public final class TransferStats {
+
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final AtomicLong rejected = new AtomicLong();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder serviceNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxServiceNanos = new LongAccumulator(Math::max, 0);
+
+    void recordStart(long waitNanos) {
+        started.increment();
+        this.waitNanos.add(waitNanos);
+        maxWaitNanos.accumulate(waitNanos);
+    }
+
+    void recordCompletion(long serviceNanos) {
+        completed.increment();
+        this.serviceNanos.add(serviceNanos);
+        maxServiceNanos.accumulate(serviceNanos);
+    }
+
+    void recordRejection() {
+        rejected.incrementAndGet();
+    }
+
+    /**
+     * @return Returns the number of started transfers.
+     */
+    public long getStartedCount() {
+        return started.sum();
+    }
+
+    /**
+     * @return Returns the number of completed transfers.
+     */
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    /**
+     * @return Returns the number of transfers rejected because the queue was full.
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * @return Returns the average time in milliseconds the transfers waited in queue.
+     */
+    public double getAverageWaitMillis() {
+        long count = started.sum();
+        return count == 0 ? 0 : waitNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return Returns the longest time in milliseconds a transfer waited in queue.
+     */
+    public double getMaxWaitMillis() {
+        return maxWaitNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return Returns the average time in milliseconds the transfers took once started.
+     */
+    public double getAverageServiceMillis() {
+        long count = completed.sum();
+        return count == 0 ? 0 : serviceNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return Returns the longest time in milliseconds a transfer took once started.
+     */
+    public double getMaxServiceMillis() {
+        return maxServiceNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", TransferStats.class.getSimpleName() + "[", "]")
+                .add("started=" + getStartedCount())
+                .add("completed=" + getCompletedCount())
+                .add("rejected=" + getRejectedCount())
+                .add("averageWaitMillis=" + getAverageWaitMillis())
+                .add("maxWaitMillis=" + getMaxWaitMillis())
+                .add("averageServiceMillis=" + getAverageServiceMillis())
+                .add("maxServiceMillis=" + getMaxServiceMillis())
+                .toString();
+    }
+}
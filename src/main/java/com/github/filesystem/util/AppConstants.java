@@ -24,6 +24,9 @@ public final class AppConstants {
     public static final String S3_ACCESS_KEY = "S3_ACCESS_KEY";
     public static final String S3_SECRET_KEY = "S3_SECRET_KEY";
     public static final String REGION = "REGION";
+    public static final String S3_MAX_CONNECTIONS = "S3_MAX_CONNECTIONS";
+    public static final String S3_PART_SIZE = "S3_PART_SIZE";
+    public static final String S3_PARTS_IN_FLIGHT = "S3_PARTS_IN_FLIGHT";
 
     // SFTP properties
     public static final String SFTP_USERNAME = "SFTP_USERNAME";
@@ -31,6 +34,26 @@ public final class AppConstants {
     public static final String SFTP_HOSTNAME = "SFTP_HOSTNAME";
     public static final String SFTP_PORT = "SFTP_PORT";
 
+    // SFTP high-throughput transfer properties
+    public static final String SFTP_HIGH_THROUGHPUT = "SFTP_HIGH_THROUGHPUT";
+    public static final String SFTP_BULK_REQUESTS = "SFTP_BULK_REQUESTS";
+    public static final String SFTP_STREAM_BUFFER_SIZE = "SFTP_STREAM_BUFFER_SIZE";
+    public static final String SFTP_TRANSFER_STREAMS = "SFTP_TRANSFER_STREAMS";
+    public static final String SFTP_POOL_SIZE = "SFTP_POOL_SIZE";
+    public static final String SFTP_WRITE_BUFFER_SIZE = "SFTP_WRITE_BUFFER_SIZE";
+
+    // Connection properties
+    public static final String LAZY_CONNECT = "LAZY_CONNECT";
+    public static final String WARM_UP_CONNECTIONS = "WARM_UP_CONNECTIONS";
+    public static final String KEEP_ALIVE_INTERVAL = "KEEP_ALIVE_INTERVAL";
+    public static final String CONNECTION_TIMEOUT = "CONNECTION_TIMEOUT";
+    public static final String SOCKET_TIMEOUT = "SOCKET_TIMEOUT";
+
+    // Ranged read properties
+    public static final String READ_BLOCK_SIZE = "READ_BLOCK_SIZE";
+    public static final String READ_AHEAD_BLOCKS = "READ_AHEAD_BLOCKS";
+    public static final String READ_CACHE_BLOCKS = "READ_CACHE_BLOCKS";
+
 
     public static final CharSequence CHAR_FS = "/";
     public static final String CHAR_COMMA = ",";
@@ -18,6 +18,13 @@ public class ExceptionConstants {
     public static final String STR_FILE_EXCEPTION = "The specified file: %s is not found for processing.";
     public static final String STR_INITIATION_EXCEPTION = "Problem instantiating or accessing a new instance.";
     public static final String STR_PARSING_EXCEPTION = "The exception occurred while parsing the file.";
+    public static final String STR_INTERRUPTED_EXCEPTION = "The file system operation was interrupted.";
+    public static final String STR_SPOOL_EXCEPTION = "The IO exception occurred while spooling a file.";
+    public static final String STR_CHUNK_EXCEPTION = "The IO exception occurred while transferring the file chunks.";
+    public static final String STR_TRANSFER_REJECTED = "The transfer is rejected, the %s queue is full.";
+    public static final String STR_REPLICATION_EXCEPTION = "The write of: %s did not reach the write quorum of replicas.";
+    public static final String STR_ENCRYPTION_EXCEPTION = "The exception occurred while encrypting or decrypting the file.";
+    public static final String STR_UNSUPPORTED_OPERATION = "The operation: %s is not supported by the file system.";
 
 
 }
@@ -0,0 +1,417 @@
+package com.github.filesystem.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The compiled glob pattern matched against the file paths. The * and ? do not cross the directory boundaries, the **
+ * matches any number of directories, the [abc], [a-z] and [!a-z] match one character of the class, the {a,b}
+ * matches any of the alternatives and the \ escapes the next character.
+ * <p>
+ * The pattern knows its literal prefix, which is pushed down to the listing so only the matching part of the tree is
+ * listed, and can tell whether any path under a directory may match, so the non matching sub trees are pruned. The
+ * matching walks the pattern over the path in place without allocating.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public final class GlobPattern {
+
+    private static final char SEPARATOR = '/';
+    private static final String META_CHARACTERS = "*?[{";
+
+    private final String glob;
+    private final char[][] alternatives;
+    private final String literalPrefix;
+    private final String[] segmentPrefixes;
+    private final int flatFrom;
+
+    private GlobPattern(String glob, List<String> expanded) {
+        this.glob = glob;
+        this.alternatives = new char[expanded.size()][];
+        int segments = 0;
+        int flat = Integer.MAX_VALUE;
+        for (int i = 0; i < alternatives.length; i++) {
+            alternatives[i] = expanded.get(i).toCharArray();
+            segments = Math.max(segments, count(expanded.get(i), SEPARATOR, expanded.get(i).length()) + 1);
+            int recursive = recursiveSegment(alternatives[i]);
+            flat = Math.min(flat, recursive < 0 ? Integer.MAX_VALUE : recursive);
+        }
+        this.flatFrom = flat;
+        String prefix = null;
+        for (char[] alternative : alternatives) {
+            prefix = commonPrefix(prefix, literal(alternative, 0, alternative.length));
+        }
+        this.literalPrefix = prefix;
+        this.segmentPrefixes = new String[segments];
+        for (int segment = 0; segment < segments; segment++) {
+            String segmentPrefix = null;
+            for (char[] alternative : alternatives) {
+                int start = segmentStart(alternative, segment);
+                if (start < 0) {
+                    segmentPrefix = "";
+                    break;
+                }
+                int end = start;
+                while (end < alternative.length && alternative[end] != SEPARATOR) {
+                    end += alternative[end] == '\\' ? 2 : 1;
+                }
+                segmentPrefix = commonPrefix(segmentPrefix, literal(alternative, start, Math.min(end,
+                        alternative.length)));
+            }
+            // the segments after ** are not aligned with the directory levels
+            segmentPrefixes[segment] = segment > flat ? "" : segmentPrefix;
+        }
+    }
+
+    /**
+     * This method can be used to compile the glob pattern.
+     *
+     * @param glob - The glob pattern e.g. logs/2026-10-*&#47;part-*.gz
+     * @return Returns the compiled pattern.
+     * @throws PatternSyntaxException when the class or alternatives are not closed.
+     */
+    public static GlobPattern compile(String glob) {
+        List<String> expanded = new ArrayList<>();
+        expand(glob, glob, expanded);
+        for (String alternative : expanded) {
+            validate(glob, alternative);
+        }
+        return new GlobPattern(glob, expanded);
+    }
+
+    /**
+     * @return Returns the glob pattern.
+     */
+    public String getGlob() {
+        return glob;
+    }
+
+    /**
+     * @return Returns the longest literal prefix every matching path starts with.
+     */
+    public String getLiteralPrefix() {
+        return literalPrefix;
+    }
+
+    /**
+     * @return Returns the deepest directory of the literal prefix with the trailing separator, or empty string.
+     */
+    public String getBaseDirectory() {
+        return literalPrefix.substring(0, literalPrefix.lastIndexOf(SEPARATOR) + 1);
+    }
+
+    /**
+     * This method can be used to get the literal prefix the names of the matching children of the directory start
+     * with, so the listing of the directory can be narrowed to it.
+     *
+     * @param directory - The directory path matched by {@link #matchesDirectory(CharSequence)}.
+     * @return Returns the literal prefix of child names, or empty string.
+     */
+    public String getChildPrefix(CharSequence directory) {
+        int segment = depth(directory);
+        return segment < segmentPrefixes.length ? segmentPrefixes[segment] : "";
+    }
+
+    /**
+     * This method can be used to check whether the pattern matches across the directories below the directory, i.e.
+     * the rest of pattern contains **, so the rest of tree is better listed flat than directory by directory.
+     *
+     * @param directory - The directory path matched by {@link #matchesDirectory(CharSequence)}.
+     * @return Returns true when the pattern below the directory contains **.
+     */
+    public boolean isRecursiveBelow(CharSequence directory) {
+        return depth(directory) >= flatFrom;
+    }
+
+    /**
+     * This method can be used to match the path.
+     *
+     * @param path - The file path.
+     * @return Returns true when the path matches the pattern.
+     */
+    public boolean matches(CharSequence path) {
+        for (char[] alternative : alternatives) {
+            if (match(alternative, 0, path, 0, path.length(), false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This method can be used to check whether any path under the directory may match, the directories for which it
+     * returns false need not be listed.
+     *
+     * @param directory - The directory path, with or without the trailing separator.
+     * @return Returns false when no path under the directory matches the pattern.
+     */
+    public boolean matchesDirectory(CharSequence directory) {
+        int end = directory.length();
+        if (end == 0) {
+            return true;
+        }
+        if (end > 0 && directory.charAt(end - 1) == SEPARATOR) {
+            end--;
+        }
+        for (char[] alternative : alternatives) {
+            if (match(alternative, 0, directory, 0, end, true)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return glob;
+    }
+
+    /**
+     * Match the pattern from the index against the path range. In partial mode the path is a directory and the match
+     * succeeds when the pattern may continue with a separator at the end of the path, or reaches ** which may match
+     * any path below.
+     */
+    private static boolean match(char[] pattern, int pi, CharSequence path, int si, int end, boolean partial) {
+        while (true) {
+            if (si == end) {
+                if (partial) {
+                    return pi < pattern.length && (pattern[pi] == SEPARATOR || pattern[pi] == '*');
+                }
+                while (pi < pattern.length && pattern[pi] == '*') {
+                    pi++;
+                }
+                return pi == pattern.length;
+            }
+            if (pi == pattern.length) {
+                return false;
+            }
+            char c = pattern[pi];
+            if (c == '*') {
+                boolean recursive = pi + 1 < pattern.length && pattern[pi + 1] == '*';
+                int next = recursive ? pi + 2 : pi + 1;
+                if (recursive && partial) {
+                    // the ** takes the rest of directory and any sub directories, the rest of pattern can follow below
+                    return true;
+                }
+                if (next == pattern.length && !partial && (recursive || indexOf(path, SEPARATOR, si, end) < 0)) {
+                    return true;
+                }
+                int literal = next < pattern.length && META_CHARACTERS.indexOf(pattern[next]) < 0
+                        && pattern[next] != '\\' ? pattern[next] : -1;
+                for (int i = si; ; i++) {
+                    if ((literal < 0 || i == end || path.charAt(i) == literal)
+                            && match(pattern, next, path, i, end, partial)) {
+                        return true;
+                    }
+                    if (i == end || (!recursive && path.charAt(i) == SEPARATOR)) {
+                        return false;
+                    }
+                }
+            }
+            char ch = path.charAt(si);
+            if (c == '?') {
+                if (ch == SEPARATOR) {
+                    return false;
+                }
+                pi++;
+            } else if (c == '[') {
+                int close = classEnd(pattern, pi);
+                if (ch == SEPARATOR || !classMatches(pattern, pi + 1, close, ch)) {
+                    return false;
+                }
+                pi = close + 1;
+            } else {
+                if (c == '\\') {
+                    c = pattern[++pi];
+                }
+                if (c != ch) {
+                    return false;
+                }
+                pi++;
+            }
+            si++;
+        }
+    }
+
+    private static boolean classMatches(char[] pattern, int from, int close, char ch) {
+        boolean negated = from < close && pattern[from] == '!';
+        boolean matched = false;
+        for (int i = negated ? from + 1 : from; i < close && !matched; i++) {
+            if (i + 2 < close && pattern[i + 1] == '-') {
+                matched = ch >= pattern[i] && ch <= pattern[i + 2];
+                i += 2;
+            } else {
+                matched = ch == pattern[i];
+            }
+        }
+        return matched != negated;
+    }
+
+    private static int classEnd(char[] pattern, int open) {
+        int i = open + 1;
+        if (i < pattern.length && pattern[i] == '!') {
+            i++;
+        }
+        // the ] right after the [ or [! is a member of the class
+        for (i++; i < pattern.length; i++) {
+            if (pattern[i] == ']') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Expand the first {a,b} group into the alternatives, the nested groups are expanded recursively.
+     */
+    private static void expand(String glob, String pattern, List<String> expanded) {
+        int open = -1;
+        int depth = 0;
+        List<Integer> commas = new ArrayList<>();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                int close = classEnd(pattern.toCharArray(), i);
+                i = close < 0 ? pattern.length() : close;
+            } else if (c == '{') {
+                if (depth++ == 0) {
+                    open = i;
+                }
+            } else if (c == ',' && depth == 1) {
+                commas.add(i);
+            } else if (c == '}' && depth > 0 && --depth == 0) {
+                String head = pattern.substring(0, open);
+                String tail = pattern.substring(i + 1);
+                int start = open + 1;
+                commas.add(i);
+                for (int comma : commas) {
+                    expand(glob, head + pattern.substring(start, comma) + tail, expanded);
+                    start = comma + 1;
+                }
+                return;
+            }
+        }
+        if (depth > 0) {
+            throw new PatternSyntaxException("Missing '}'", glob, open);
+        }
+        expanded.add(pattern);
+    }
+
+    private static void validate(String glob, String pattern) {
+        char[] chars = pattern.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] == '\\') {
+                if (i + 1 == chars.length) {
+                    throw new PatternSyntaxException("Dangling '\\'", glob, glob.length() - 1);
+                }
+                i++;
+            } else if (chars[i] == '[') {
+                int close = classEnd(chars, i);
+                if (close < 0) {
+                    throw new PatternSyntaxException("Missing ']'", glob, glob.indexOf('['));
+                }
+                i = close;
+            }
+        }
+    }
+
+    /**
+     * The literal characters of the pattern range up to its first meta character, with the escapes removed.
+     */
+    private static String literal(char[] pattern, int from, int to) {
+        StringBuilder literal = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            char c = pattern[i];
+            if (META_CHARACTERS.indexOf(c) >= 0) {
+                break;
+            }
+            if (c == '\\') {
+                c = pattern[++i];
+            }
+            literal.append(c);
+        }
+        return literal.toString();
+    }
+
+    /**
+     * The index of the first segment containing **, or -1.
+     */
+    private static int recursiveSegment(char[] pattern) {
+        int segment = 0;
+        for (int i = 0; i < pattern.length; i++) {
+            if (pattern[i] == '\\') {
+                i++;
+            } else if (pattern[i] == SEPARATOR) {
+                segment++;
+            } else if (pattern[i] == '*' && i + 1 < pattern.length && pattern[i + 1] == '*') {
+                return segment;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The index the segment starts at, or -1 when the pattern has fewer segments.
+     */
+    private static int segmentStart(char[] pattern, int segment) {
+        int i = 0;
+        for (int current = 0; current < segment; current++) {
+            while (i < pattern.length && pattern[i] != SEPARATOR) {
+                i += pattern[i] == '\\' ? 2 : 1;
+            }
+            if (i >= pattern.length) {
+                return -1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * The number of segments of the directory path, i.e. the index of the segment of its children.
+     */
+    private static int depth(CharSequence directory) {
+        int end = directory.length();
+        if (end == 0) {
+            return 0;
+        }
+        return count(directory, SEPARATOR, end) + (directory.charAt(end - 1) == SEPARATOR ? 0 : 1);
+    }
+
+    private static int count(CharSequence text, char c, int end) {
+        int count = 0;
+        for (int i = 0; i < end; i++) {
+            if (text.charAt(i) == c) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int indexOf(CharSequence text, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String commonPrefix(String first, String second) {
+        if (first == null) {
+            return second;
+        }
+        int length = 0;
+        int max = Math.min(first.length(), second.length());
+        while (length < max && first.charAt(length) == second.charAt(length)) {
+            length++;
+        }
+        return first.substring(0, length);
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.github.filesystem.util;
+
+import java.util.Map;
+
+/**
+ * Useful utilities to read optional file system properties with default values.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public final class PropertyUtil {
+
+    private PropertyUtil() {
+    }
+
+    /**
+     * Read the integer property, the value can be configured as number or string.
+     *
+     * @param properties   - The file system properties.
+     * @param key          - The property key.
+     * @param defaultValue - The value to return when property is not configured.
+     * @return Returns the configured value or default value.
+     */
+    public static int getInt(Map<String, Object> properties, String key, int defaultValue) {
+        Object value = properties.get(key);
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        return value != null ? Integer.parseInt(value.toString().trim()) : defaultValue;
+    }
+
+    /**
+     * Read the long property, the value can be configured as number or string.
+     *
+     * @param properties   - The file system properties.
+     * @param key          - The property key.
+     * @param defaultValue - The value to return when property is not configured.
+     * @return Returns the configured value or default value.
+     */
+    public static long getLong(Map<String, Object> properties, String key, long defaultValue) {
+        Object value = properties.get(key);
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return value != null ? Long.parseLong(value.toString().trim()) : defaultValue;
+    }
+
+    /**
+     * Read the boolean property, the value can be configured as boolean or string.
+     *
+     * @param properties   - The file system properties.
+     * @param key          - The property key.
+     * @param defaultValue - The value to return when property is not configured.
+     * @return Returns the configured value or default value.
+     */
+    public static boolean getBoolean(Map<String, Object> properties, String key, boolean defaultValue) {
+        Object value = properties.get(key);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return value != null ? Boolean.parseBoolean(value.toString().trim()) : defaultValue;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.github.filesystem.util;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Useful utilities for the background threads of file systems.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public final class ThreadUtil {
+
+    private ThreadUtil() {
+    }
+
+    /**
+     * Create the thread factory of daemon threads, so the background work does not block the JVM exit.
+     *
+     * @param name - The name prefix of the threads.
+     * @return Returns the thread factory.
+     */
+    public static ThreadFactory daemonThreadFactory(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
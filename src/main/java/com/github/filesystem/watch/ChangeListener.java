@@ -0,0 +1,31 @@
+package com.github.filesystem.watch;
+
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.model.ChangeEvent;
+
+/**
+ * The listener of the changes detected in a watched directory. The listener is called on the watcher thread, one
+ * directory at a time.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public interface ChangeListener {
+
+    /**
+     * Called for every created, modified or deleted file.
+     *
+     * @param event - The change {@link ChangeEvent}.
+     */
+    void onChange(ChangeEvent event);
+
+    /**
+     * Called when the listing of watched directory fails, the directory is polled again on next interval.
+     *
+     * @param directory - The watched directory.
+     * @param e         - The failure.
+     */
+    default void onError(String directory, FileSystemException e) {
+    }
+}
@@ -0,0 +1,192 @@
+package com.github.filesystem.watch;
+
+import com.github.filesystem.FileSystem;
+import com.github.filesystem.exception.FileSystemException;
+import com.github.filesystem.model.ChangeEvent;
+import com.github.filesystem.model.FileInfo;
+import com.github.filesystem.util.ThreadUtil;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * The watcher of directories on file system. Every watched directory is listed periodically and diffed against its
+ * compact snapshot, the created, modified and deleted files are reported to the listener. The poll interval adapts to
+ * the activity: it drops to the minimum interval when changes are found and grows up to the maximum interval while
+ * the directory is quiet, and it is never shorter than the last listing took.
+ * <p>
+ * The S3 listing is consumed page by page while diffing, so the full listing is never held in memory.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+public class DirectoryWatcher implements Closeable {
+
+    public static final Logger log = Logger.getLogger(DirectoryWatcher.class.getName());
+
+    /**
+     * The default minimum poll interval in milliseconds.
+     */
+    public static final long DEFAULT_MIN_INTERVAL = 1000;
+
+    /**
+     * The default maximum poll interval in milliseconds.
+     */
+    public static final long DEFAULT_MAX_INTERVAL = 30 * 1000;
+
+    private final FileSystem fileSystem;
+    private final long minInterval;
+    private final long maxInterval;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Watch> watches = new ConcurrentHashMap<>();
+
+    /**
+     * @param fileSystem - The file system to watch.
+     */
+    public DirectoryWatcher(FileSystem fileSystem) {
+        this(fileSystem, DEFAULT_MIN_INTERVAL, DEFAULT_MAX_INTERVAL, 1);
+    }
+
+    /**
+     * @param fileSystem  - The file system to watch.
+     * @param minInterval - The minimum poll interval in milliseconds.
+     * @param maxInterval - The maximum poll interval in milliseconds.
+     * @param threads     - The number of directories polled in parallel.
+     */
+    public DirectoryWatcher(FileSystem fileSystem, long minInterval, long maxInterval, int threads) {
+        this.fileSystem = fileSystem;
+        this.minInterval = Math.max(1, minInterval);
+        this.maxInterval = Math.max(this.minInterval, maxInterval);
+        this.scheduler = Executors.newScheduledThreadPool(Math.max(1, threads),
+                ThreadUtil.daemonThreadFactory("directory-watcher"));
+    }
+
+    /**
+     * This method can be used to watch the directory, the files existing on first listing are not reported.
+     *
+     * @param directory - The directory to watch.
+     * @param listener  - The listener of changes.
+     */
+    public void watch(String directory, ChangeListener listener) {
+        watch(directory, listener, false);
+    }
+
+    /**
+     * This method can be used to watch the directory. Watching the directory again replaces its listener and
+     * snapshot.
+     *
+     * @param directory      - The directory to watch.
+     * @param listener       - The listener of changes.
+     * @param reportExisting - True to report the files existing on first listing as created.
+     */
+    public void watch(String directory, ChangeListener listener, boolean reportExisting) {
+        Watch watch = new Watch(directory, listener, reportExisting);
+        Watch previous = watches.put(directory, watch);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        scheduler.execute(watch);
+    }
+
+    /**
+     * This method can be used to stop watching the directory.
+     *
+     * @param directory - The watched directory.
+     */
+    public void unwatch(String directory) {
+        Watch watch = watches.remove(directory);
+        if (watch != null) {
+            watch.cancelled = true;
+        }
+    }
+
+    /**
+     * Stop watching all the directories.
+     */
+    @Override
+    public void close() {
+        watches.values().forEach(watch -> watch.cancelled = true);
+        watches.clear();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * The watched directory with its snapshot and current poll interval.
+     */
+    private final class Watch implements Runnable {
+        private final String directory;
+        private final ChangeListener listener;
+        private final boolean reportExisting;
+        private final ListingSnapshot snapshot = new ListingSnapshot();
+        private boolean initialized;
+        private long interval = minInterval;
+        private volatile boolean cancelled;
+
+        Watch(String directory, ChangeListener listener, boolean reportExisting) {
+            this.directory = directory;
+            this.listener = listener;
+            this.reportExisting = reportExisting;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            long start = System.currentTimeMillis();
+            try {
+                int changes = poll();
+                interval = changes > 0 ? minInterval : Math.min(maxInterval, interval + interval / 2);
+            } catch (FileSystemException e) {
+                listener.onError(directory, e);
+            } catch (RuntimeException e) {
+                log.warning(String.format("The poll of directory: %s failed. Cause: %s", directory, e));
+                listener.onError(directory, new FileSystemException(String.valueOf(e.getMessage())));
+            }
+            long elapsed = System.currentTimeMillis() - start;
+            if (!cancelled && !scheduler.isShutdown()) {
+                scheduler.schedule(this, Math.max(interval, elapsed), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        /**
+         * List the directory and report the differences to snapshot, the deleted files are detected only after
+         * complete listing.
+         */
+        private int poll() throws FileSystemException {
+            boolean report = initialized || reportExisting;
+            int changes = 0;
+            snapshot.beginScan();
+            Iterator<FileInfo> files = fileSystem.iterateFileInfo(directory);
+            while (files.hasNext() && !cancelled) {
+                FileInfo file = files.next();
+                if (file.isDirectory()) {
+                    continue;
+                }
+                int change = snapshot.update(file.getPath(),
+                        ListingSnapshot.fingerprint(file.getSize(), file.getLastModified(), file.getEtag()));
+                if (change != ListingSnapshot.UNCHANGED && report) {
+                    ChangeEvent.Kind kind = change == ListingSnapshot.CREATED ? ChangeEvent.Kind.CREATED
+                            : ChangeEvent.Kind.MODIFIED;
+                    listener.onChange(new ChangeEvent(kind, file.getPath(), file));
+                    changes++;
+                }
+            }
+            if (cancelled) {
+                return changes;
+            }
+            changes += snapshot.removeUnseen(path ->
+                    listener.onChange(new ChangeEvent(ChangeEvent.Kind.DELETED, path, null)));
+            initialized = true;
+            return changes;
+        }
+    }
+
+}
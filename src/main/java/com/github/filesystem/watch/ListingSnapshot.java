@@ -0,0 +1,190 @@
+package com.github.filesystem.watch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * The compact snapshot of a directory listing. The entries are kept in primitive arrays of an open addressing hash
+ * table keyed by the 64 bit hash of the path, holding the fingerprint of size, last modified time and ETag. The paths
+ * are kept as UTF-8 bytes only to report the deleted files, so the snapshot costs about the path length plus 32 bytes
+ * per file and the diff of a listing allocates nothing for the unchanged files.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+final class ListingSnapshot {
+
+    static final int UNCHANGED = 0;
+    static final int CREATED = 1;
+    static final int MODIFIED = 2;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] keys;
+    private long[] fingerprints;
+    private int[] seen;
+    private int[] pathOffsets;
+    private int[] pathLengths;
+    private byte[] paths;
+    private int pathsSize;
+    private int size;
+    private int generation;
+
+    ListingSnapshot() {
+        allocate(INITIAL_CAPACITY);
+        paths = new byte[INITIAL_CAPACITY * 32];
+    }
+
+    /**
+     * Start the diff of a new listing, the entries not updated until {@link #removeUnseen(Consumer)} are deleted.
+     */
+    void beginScan() {
+        generation++;
+    }
+
+    /**
+     * Update the entry of the listed file.
+     *
+     * @param path        - The path of the file.
+     * @param fingerprint - The fingerprint of the file.
+     * @return Returns {@link #CREATED}, {@link #MODIFIED} or {@link #UNCHANGED}.
+     */
+    int update(String path, long fingerprint) {
+        long key = hash(path);
+        int mask = keys.length - 1;
+        int slot = (int) key & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                seen[slot] = generation;
+                if (fingerprints[slot] == fingerprint) {
+                    return UNCHANGED;
+                }
+                fingerprints[slot] = fingerprint;
+                return MODIFIED;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if ((size + 1) * 4L > keys.length * 3L) {
+            rebuild(keys.length * 2);
+            return update(path, fingerprint);
+        }
+        byte[] bytes = path.getBytes(StandardCharsets.UTF_8);
+        if (pathsSize + bytes.length > paths.length) {
+            paths = Arrays.copyOf(paths, Math.max(paths.length * 2, pathsSize + bytes.length));
+        }
+        System.arraycopy(bytes, 0, paths, pathsSize, bytes.length);
+        keys[slot] = key;
+        fingerprints[slot] = fingerprint;
+        seen[slot] = generation;
+        pathOffsets[slot] = pathsSize;
+        pathLengths[slot] = bytes.length;
+        pathsSize += bytes.length;
+        size++;
+        return CREATED;
+    }
+
+    /**
+     * Remove the entries not listed since {@link #beginScan()}.
+     *
+     * @param deleted - The consumer of the deleted paths.
+     * @return Returns the number of deleted entries.
+     */
+    int removeUnseen(Consumer<String> deleted) {
+        int removed = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0 && seen[slot] != generation) {
+                deleted.accept(new String(paths, pathOffsets[slot], pathLengths[slot], StandardCharsets.UTF_8));
+                keys[slot] = 0;
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            size -= removed;
+            // the linear probing chains are broken by the removal, the table is rebuilt with compacted paths
+            int capacity = keys.length;
+            while (capacity > INITIAL_CAPACITY && size * 4L < capacity) {
+                capacity /= 2;
+            }
+            rebuild(capacity);
+        }
+        return removed;
+    }
+
+    /**
+     * @return Returns the number of files in snapshot.
+     */
+    int size() {
+        return size;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        fingerprints = new long[capacity];
+        seen = new int[capacity];
+        pathOffsets = new int[capacity];
+        pathLengths = new int[capacity];
+    }
+
+    private void rebuild(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldFingerprints = fingerprints;
+        int[] oldSeen = seen;
+        int[] oldOffsets = pathOffsets;
+        int[] oldLengths = pathLengths;
+        byte[] oldPaths = paths;
+        allocate(capacity);
+        paths = new byte[Math.max(pathsSize, INITIAL_CAPACITY)];
+        pathsSize = 0;
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == 0) {
+                continue;
+            }
+            int slot = (int) oldKeys[i] & mask;
+            while (keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            fingerprints[slot] = oldFingerprints[i];
+            seen[slot] = oldSeen[i];
+            pathOffsets[slot] = pathsSize;
+            pathLengths[slot] = oldLengths[i];
+            System.arraycopy(oldPaths, oldOffsets[i], paths, pathsSize, oldLengths[i]);
+            pathsSize += oldLengths[i];
+        }
+    }
+
+    /**
+     * The 64 bit FNV-1a hash of the path chars with the final mix, zero is reserved for the empty slot.
+     */
+    static long hash(String path) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < path.length(); i++) {
+            hash ^= path.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash = mix(hash);
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * The fingerprint of the file attributes.
+     */
+    static long fingerprint(long size, long lastModified, String etag) {
+        long hash = mix(size) * 31 + lastModified;
+        hash = mix(hash) * 31 + (etag == null ? 0 : etag.hashCode());
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+}
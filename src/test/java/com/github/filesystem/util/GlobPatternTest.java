@@ -0,0 +1,202 @@
+package com.github.filesystem.util;
+
+import com.github.filesystem.FileSystem;
+import com.github.filesystem.model.Configuration;
+import com.github.filesystem.model.FileInfo;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.*;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The tests of glob pattern matching and of the directory pruning used by the file search.
+ *
+ * @author Ram Alapure
+ * @version 1.2
+ * @since 19/10/2026
+ */
+class GlobPatternTest {
+
+    @Test
+    void recursiveWildcardMatchesAnyPath() {
+        GlobPattern pattern = GlobPattern.compile("**");
+        assertTrue(pattern.matches("x"));
+        assertTrue(pattern.matches("a/b/c.csv"));
+        assertTrue(pattern.matchesDirectory(""));
+        assertTrue(pattern.matchesDirectory("x"));
+        assertTrue(pattern.matchesDirectory("x/y/"));
+    }
+
+    @Test
+    void recursiveWildcardBelowDirectory() {
+        GlobPattern pattern = GlobPattern.compile("data/**");
+        assertTrue(pattern.matches("data/a.csv"));
+        assertTrue(pattern.matches("data/x/b.csv"));
+        assertFalse(pattern.matches("other/a.csv"));
+        assertTrue(pattern.matchesDirectory("data"));
+        assertTrue(pattern.matchesDirectory("data/x"));
+        assertTrue(pattern.matchesDirectory("data/x/y/"));
+        assertFalse(pattern.matchesDirectory("other"));
+    }
+
+    @Test
+    void recursiveWildcardBeforeLiteral() {
+        GlobPattern pattern = GlobPattern.compile("a/**.csv");
+        assertTrue(pattern.matches("a/b.csv"));
+        assertTrue(pattern.matches("a/b/c.csv"));
+        assertFalse(pattern.matches("a/b/c.txt"));
+        assertTrue(pattern.matchesDirectory("a"));
+        assertTrue(pattern.matchesDirectory("a/b"));
+        assertFalse(pattern.matchesDirectory("b"));
+    }
+
+    @Test
+    void recursiveWildcardBetweenSegments() {
+        GlobPattern pattern = GlobPattern.compile("a/**/c/*.txt");
+        assertTrue(pattern.matches("a/b/c/x.txt"));
+        assertTrue(pattern.matches("a/b/d/c/x.txt"));
+        assertFalse(pattern.matches("a/b/x.txt"));
+        assertTrue(pattern.matchesDirectory("a/b/d"));
+        assertFalse(pattern.matchesDirectory("b/c"));
+    }
+
+    @Test
+    void wildcardDoesNotCrossDirectories() {
+        GlobPattern pattern = GlobPattern.compile("*.csv");
+        assertTrue(pattern.matches("a.csv"));
+        assertFalse(pattern.matches("d/a.csv"));
+        assertFalse(pattern.matchesDirectory("d"));
+        assertFalse(GlobPattern.compile("?").matches("/"));
+    }
+
+    @Test
+    void alternatives() {
+        GlobPattern pattern = GlobPattern.compile("{a,b}/*.{txt,log}");
+        assertTrue(pattern.matches("a/x.txt"));
+        assertTrue(pattern.matches("b/x.log"));
+        assertFalse(pattern.matches("c/x.txt"));
+        assertFalse(pattern.matches("a/x.csv"));
+        assertTrue(pattern.matchesDirectory("a"));
+        assertTrue(pattern.matchesDirectory("b/"));
+        assertFalse(pattern.matchesDirectory("c"));
+        assertFalse(pattern.matchesDirectory("a/x"));
+        assertTrue(GlobPattern.compile("data/{x/**,y}").matchesDirectory("data/x/z"));
+        assertThrows(PatternSyntaxException.class, () -> GlobPattern.compile("{a,b"));
+    }
+
+    @Test
+    void characterClasses() {
+        assertTrue(GlobPattern.compile("file[0-9].log").matches("file1.log"));
+        assertFalse(GlobPattern.compile("file[0-9].log").matches("fileA.log"));
+        assertTrue(GlobPattern.compile("[!a]x").matches("bx"));
+        assertFalse(GlobPattern.compile("[!a]x").matches("ax"));
+        assertTrue(GlobPattern.compile("[]]").matches("]"));
+        assertFalse(GlobPattern.compile("a[/]b").matches("a/b"));
+        GlobPattern pattern = GlobPattern.compile("logs/2026-1[0-2]/*.gz");
+        assertTrue(pattern.matchesDirectory("logs"));
+        assertTrue(pattern.matchesDirectory("logs/2026-10"));
+        assertFalse(pattern.matchesDirectory("logs/2026-13"));
+        assertThrows(PatternSyntaxException.class, () -> GlobPattern.compile("a[bc"));
+    }
+
+    @Test
+    void literalPrefix() {
+        GlobPattern pattern = GlobPattern.compile("logs/2026-10-*/part-*.gz");
+        assertEquals("logs/2026-10-", pattern.getLiteralPrefix());
+        assertEquals("logs/", pattern.getBaseDirectory());
+        assertEquals("2026-10-", pattern.getChildPrefix("logs/"));
+        assertEquals("part-", pattern.getChildPrefix("logs/2026-10-01"));
+        assertEquals("", GlobPattern.compile("**").getLiteralPrefix());
+        assertEquals("a\\b*", GlobPattern.compile("a\\\\b\\*").getLiteralPrefix());
+    }
+
+    @Test
+    void findFilesDescendsIntoRecursiveDirectories() throws Exception {
+        FileSystem fileSystem = new MemoryFileSystem("data/a.csv", "data/x/b.csv", "data/x/y/c.txt", "other/d.csv");
+        assertEquals(Arrays.asList("data/a.csv", "data/x/b.csv", "data/x/y/c.txt"),
+                paths(fileSystem.findFiles("data/**", 0)));
+        assertEquals(4, fileSystem.findFiles("**", 0).size());
+        assertEquals(Arrays.asList("data/a.csv", "data/x/b.csv", "other/d.csv"),
+                paths(fileSystem.findFiles("**.csv", 0)));
+        assertEquals(1, fileSystem.findFiles("**", 1).size());
+    }
+
+    private static List<String> paths(List<FileInfo> files) {
+        return files.stream().map(FileInfo::getPath).sorted().collect(Collectors.toList());
+    }
+
+    /**
+     * The file system listing the given files directory by directory.
+     */
+    private static final class MemoryFileSystem extends FileSystem {
+        private final List<String> files;
+
+        MemoryFileSystem(String... files) {
+            this.files = Arrays.asList(files);
+        }
+
+        @Override
+        public List<FileInfo> getListOfFileInfo(String directory) {
+            String prefix = directory.isEmpty() || directory.endsWith("/") ? directory : directory + "/";
+            Map<String, FileInfo> children = new LinkedHashMap<>();
+            for (String file : files) {
+                if (file.startsWith(prefix)) {
+                    int separator = file.indexOf('/', prefix.length());
+                    String path = separator < 0 ? file : file.substring(0, separator);
+                    children.putIfAbsent(path, new FileInfo(path, 0L, 0L, null, separator >= 0));
+                }
+            }
+            return new ArrayList<>(children.values());
+        }
+
+        @Override
+        public List<String> getListOfFiles(String directory) {
+            return getListOfFileInfo(directory).stream().map(FileInfo::getPath).collect(Collectors.toList());
+        }
+
+        @Override
+        public FileSystem configure(Configuration config) {
+            return this;
+        }
+
+        @Override
+        public InputStream read(String filePath) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void uploadFile(InputStream inputStream, String fileName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void downloadFile(String source, String destination) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteFile(String fileKey) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void createFolder(String folderName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void copyFile(String sourceFilePath, String targetFilePath) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Configuration getConfiguration() {
+            return null;
+        }
+    }
+
+}